@@ -0,0 +1,104 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)FieldInjectionBenchmark.java0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldInjectionBenchmark {
+    private final Target target = new Target();
+
+    private FieldWriter[] reflectiveWriters;
+    private FieldWriter[] methodHandleWriters;
+
+    @Setup
+    public void setup() throws Exception {
+        this.reflectiveWriters = this.createWriters(false);
+        this.methodHandleWriters = this.createWriters(true);
+    }
+
+    private FieldWriter[] createWriters(final boolean useMethodHandles) throws Exception {
+        final var fields = new String[] {"intValue", "longValue", "booleanValue", "stringValue"};
+        final var values = new Object[] {5, 10_000L, true, "Jonathan Parker"};
+        final var writers = new FieldWriter[fields.length];
+
+        for (int i = 0; i < fields.length; i++) {
+            final var field = Target.class.getDeclaredField(fields[i]);
+
+            writers[i] = useMethodHandles
+                    ? FieldWriters.methodHandleWriter(field, values[i])
+                    : FieldWriters.reflectiveWriter(field, values[i]);
+        }
+
+        return writers;
+    }
+
+    @Benchmark
+    public void reflection(final Blackhole blackhole) throws Throwable {
+        for (final var writer : this.reflectiveWriters)
+            writer.write(this.target);
+
+        blackhole.consume(this.target);
+    }
+
+    @Benchmark
+    public void methodHandles(final Blackhole blackhole) throws Throwable {
+        for (final var writer : this.methodHandleWriters)
+            writer.write(this.target);
+
+        blackhole.consume(this.target);
+    }
+
+    static final class Target {
+        private int intValue;
+        private long longValue;
+        private boolean booleanValue;
+        private String stringValue;
+    }
+}
@@ -0,0 +1,107 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)NewInstanceBenchmark.java   0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.reflect.Array;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+/*
+ * Measures ClassManager.newInstance for a managed class with
+ * an increasing number of annotated fields, with the injection
+ * plan cached (warm) and rebuilt on every call (cold), and
+ * ClassManager.newInstances filling an array of BATCH_SIZE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NewInstanceBenchmark {
+    private static final int BATCH_SIZE = 1000;
+
+    @Param({"1", "10", "100"})
+    private int numberOfFields;
+
+    private Class<?> managedClass;
+    private Object[] batch;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        final var classpath = SyntheticClasspath.withManagedFields(this.numberOfFields);
+        final var classLoader = classpath.newClassLoader();
+        final var applicationClass = classLoader.loadClass(classpath.getClassName(SyntheticClasspath.APPLICATION_CLASS_NAME));
+
+        this.managedClass = classLoader.loadClass(classpath.getClassName(SyntheticClasspath.MANAGED_CLASS_NAME));
+
+        new ApplicationConfigurator().configureApplication(applicationClass, classpath.getManagedScanResults(this.numberOfFields));
+
+        this.batch = (Object[]) Array.newInstance(this.managedClass, BATCH_SIZE);
+
+        ClassManager.clearInjectionPlans();
+    }
+
+    @Benchmark
+    public void newInstanceWarm(final Blackhole blackhole) throws Exception {
+        blackhole.consume(ClassManager.newInstance(this.managedClass));
+    }
+
+    @Benchmark
+    public void newInstanceCold(final Blackhole blackhole) throws Exception {
+        ClassManager.clearInjectionPlans();
+
+        blackhole.consume(ClassManager.newInstance(this.managedClass));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    @SuppressWarnings("unchecked")
+    public void newInstancesBatch(final Blackhole blackhole) throws Exception {
+        blackhole.consume(ClassManager.newInstances((Class<Object>) this.managedClass, this.batch));
+    }
+}
@@ -0,0 +1,117 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)PropertyConversionBenchmark.java0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.TimeUnit;
+
+import net.jmp.demo.annotated.application.enumerations.PropertyDataType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+/*
+ * Measures converting a loaded property value into the value
+ * injected for each property data type. The integral and
+ * boolean forms are parsed when the value is loaded, so for
+ * those types only the read is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyConversionBenchmark {
+    @Param({
+            "BOOLEAN", "BYTE", "CHAR", "DATA_SIZE", "DOUBLE", "DURATION", "ENUM", "FLOAT",
+            "INTEGER", "INT_ARRAY", "LONG", "LONG_ARRAY", "SHORT", "STRING", "STRING_ARRAY"
+    })
+    private PropertyDataType dataType;
+
+    private PropertyValue value;
+
+    @Setup
+    public void setup() {
+        final var rawValue = switch (this.dataType) {
+            case BOOLEAN -> "yes";
+            case BYTE -> "42";
+            case CHAR -> "x";
+            case DATA_SIZE -> "64MB";
+            case DOUBLE -> "3.14159";
+            case DURATION -> "30s";
+            case ENUM -> "string_array";
+            case FLOAT -> "2.5";
+            case INTEGER -> "123456";
+            case INT_ARRAY -> "1, 2, 3, 4, 5, 6, 7, 8";
+            case LONG -> "10000000000";
+            case LONG_ARRAY -> "10000000000, 20000000000, 30000000000";
+            case SHORT -> "1024";
+            case STRING -> "Jonathan Parker";
+            case STRING_ARRAY -> "alpha, beta, gamma, delta";
+        };
+
+        this.value = new PropertyValue(rawValue);
+    }
+
+    @Benchmark
+    public void convert(final Blackhole blackhole) {
+        final var value = this.value;
+
+        switch (this.dataType) {
+            case BOOLEAN -> blackhole.consume(value.getBoolean());
+            case BYTE -> blackhole.consume(PropertyParsers.parseByte(value.getString()));
+            case CHAR -> blackhole.consume(PropertyParsers.parseChar(value.getString()));
+            case DATA_SIZE -> blackhole.consume(PropertyParsers.parseDataSize(value.getString()));
+            case DOUBLE -> blackhole.consume(PropertyParsers.parseDouble(value.getString()));
+            case DURATION -> blackhole.consume(PropertyParsers.parseDuration(value.getString()));
+            case ENUM -> blackhole.consume(PropertyParsers.parseEnum(PropertyDataType.class, value.getString()));
+            case FLOAT -> blackhole.consume(PropertyParsers.parseFloat(value.getString()));
+            case INTEGER -> blackhole.consume(value.getInteger());
+            case INT_ARRAY -> blackhole.consume(PropertyParsers.parseIntArray(value.getString()));
+            case LONG -> blackhole.consume(value.getLong());
+            case LONG_ARRAY -> blackhole.consume(PropertyParsers.parseLongArray(value.getString()));
+            case SHORT -> blackhole.consume(PropertyParsers.parseShort(value.getString()));
+            case STRING -> blackhole.consume(value.getString());
+            case STRING_ARRAY -> blackhole.consume(PropertyParsers.parseStringArray(value.getString()));
+        }
+    }
+}
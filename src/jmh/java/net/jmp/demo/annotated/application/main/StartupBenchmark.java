@@ -0,0 +1,102 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)StartupBenchmark.java       0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+/*
+ * Measures locating and configuring an application over
+ * synthetic classpaths of increasing size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StartupBenchmark {
+    @Param({"100", "1000", "10000"})
+    private int numberOfClasses;
+
+    private SyntheticClasspath classpath;
+    private ClassLoader originalClassLoader;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        this.classpath = SyntheticClasspath.withClasses(this.numberOfClasses);
+        this.originalClassLoader = Thread.currentThread().getContextClassLoader();
+
+        Thread.currentThread().setContextClassLoader(this.classpath.newClassLoader());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Thread.currentThread().setContextClassLoader(this.originalClassLoader);
+    }
+
+    @Benchmark
+    public void scan(final Blackhole blackhole) {
+        blackhole.consume(new AnnotationScanner(this.classpath.getClassesDirectory()).scan());
+    }
+
+    @Benchmark
+    public void locateApplicationClass(final Blackhole blackhole) {
+        final var scanResults = new AnnotationScanner(this.classpath.getClassesDirectory()).scan();
+
+        blackhole.consume(new ApplicationLocator().locateApplicationClasses(scanResults).get(0));
+    }
+
+    @Benchmark
+    public void configureApplication(final Blackhole blackhole) {
+        final var scanResults = new AnnotationScanner(this.classpath.getClassesDirectory()).scan();
+        final var applicationClass = new ApplicationLocator().locateApplicationClasses(scanResults).get(0);
+
+        new ApplicationConfigurator().configureApplication(applicationClass, scanResults);
+
+        blackhole.consume(ApplicationConfigurator.getPropertySnapshot());
+    }
+}
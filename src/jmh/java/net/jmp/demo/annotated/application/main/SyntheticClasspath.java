@@ -0,0 +1,257 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)SyntheticClasspath.java     0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import javax.tools.ToolProvider;
+
+import net.jmp.demo.annotated.application.records.AnnotatedField;
+import net.jmp.demo.annotated.application.records.ScanResults;
+
+/*
+ * Generates and compiles synthetic application classes for the
+ * benchmarks. Each classpath is kept under java.io.tmpdir and is
+ * reused by later forks and runs.
+ */
+final class SyntheticClasspath {
+    static final String APPLICATION_CLASS_NAME = "SyntheticApplication";
+    static final String MANAGED_CLASS_NAME = "SyntheticManaged";
+
+    private static final Path BASE_DIRECTORY = Path.of(System.getProperty("java.io.tmpdir"), "annotated-application-jmh");
+    private static final int MANAGED_CLASS_RATIO = 10;
+    private static final int BATCH_SIZE = 1000;
+
+    private final String packageName;
+    private final Path root;
+    private final Path classes;
+    private final Path configFile;
+
+    private SyntheticClasspath(final String packageName) {
+        super();
+
+        this.packageName = packageName;
+        this.root = BASE_DIRECTORY.resolve(packageName);
+        this.classes = this.root.resolve("classes");
+        this.configFile = this.root.resolve("synthetic.properties");
+    }
+
+    /*
+     * A classpath of the given number of classes of which one is the
+     * application and one in ten is managed with two annotated fields.
+     */
+    static SyntheticClasspath withClasses(final int numberOfClasses) throws IOException {
+        final var classpath = new SyntheticClasspath("synthetic.c" + numberOfClasses);
+
+        if (!classpath.isGenerated()) {
+            final var sources = new ArrayList<String>();
+
+            sources.add(classpath.applicationSource());
+
+            for (int i = 1; i < numberOfClasses; i++) {
+                if (i % MANAGED_CLASS_RATIO == 0)
+                    sources.add(classpath.managedSource("Class" + i, 2));
+                else
+                    sources.add(classpath.plainSource("Class" + i));
+            }
+
+            classpath.generate(sources, 2);
+        }
+
+        return classpath;
+    }
+
+    /* A classpath holding the application and one managed class with the given number of annotated fields */
+    static SyntheticClasspath withManagedFields(final int numberOfFields) throws IOException {
+        final var classpath = new SyntheticClasspath("synthetic.f" + numberOfFields);
+
+        if (!classpath.isGenerated())
+            classpath.generate(List.of(classpath.applicationSource(), classpath.managedSource(MANAGED_CLASS_NAME, numberOfFields)), numberOfFields);
+
+        return classpath;
+    }
+
+    File getClassesDirectory() {
+        return this.classes.toFile();
+    }
+
+    ClassLoader newClassLoader() {
+        try {
+            return new URLClassLoader(new URL[] {this.classes.toUri().toURL()}, SyntheticClasspath.class.getClassLoader());
+        } catch (final IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    String getClassName(final String simpleName) {
+        return this.packageName + '.' + simpleName;
+    }
+
+    /* The scan results the index would hold for the managed class with the given number of fields */
+    ScanResults getManagedScanResults(final int numberOfFields) {
+        final var managedClassName = this.getClassName(MANAGED_CLASS_NAME);
+        final var annotatedFields = new ArrayList<AnnotatedField>();
+
+        for (int i = 0; i < numberOfFields; i++)
+            annotatedFields.add(new AnnotatedField(managedClassName, "field" + i));
+
+        return new ScanResults(
+                List.of(this.getClassName(APPLICATION_CLASS_NAME)),
+                List.of(managedClassName),
+                List.copyOf(annotatedFields)
+        );
+    }
+
+    private boolean isGenerated() {
+        return Files.exists(this.configFile);
+    }
+
+    private void generate(final List<String> sources, final int numberOfProperties) throws IOException {
+        final var sourceDirectory = this.root.resolve("sources");
+
+        Files.createDirectories(sourceDirectory);
+        Files.createDirectories(this.classes);
+
+        final var sourceFiles = new ArrayList<String>();
+
+        for (final var source : sources) {
+            final var simpleName = source.substring(source.indexOf("class ") + 6, source.indexOf(" {"));
+            final var sourceFile = sourceDirectory.resolve(simpleName + ".java");
+
+            Files.writeString(sourceFile, source);
+
+            sourceFiles.add(sourceFile.toString());
+        }
+
+        final var compiler = ToolProvider.getSystemJavaCompiler();
+        final var classpath = System.getProperty("java.class.path");
+
+        for (int from = 0; from < sourceFiles.size(); from += BATCH_SIZE) {
+            final var arguments = new ArrayList<String>(List.of("-proc:none", "-nowarn", "-cp", classpath, "-d", this.classes.toString()));
+
+            arguments.addAll(sourceFiles.subList(from, Math.min(from + BATCH_SIZE, sourceFiles.size())));
+
+            if (compiler.run(null, null, null, arguments.toArray(new String[0])) != 0)
+                throw new IllegalStateException("Unable to compile the synthetic classes in " + sourceDirectory);
+        }
+
+        final var properties = new Properties();
+
+        for (int i = 0; i < numberOfProperties; i++)
+            properties.setProperty("synthetic.property" + i, this.propertyValue(i));
+
+        try (final var writer = Files.newBufferedWriter(this.configFile)) {
+            properties.store(writer, "Synthetic benchmark properties");
+        }
+    }
+
+    private String applicationSource() {
+        return "package " + this.packageName + ";\n\n" +
+                "@net.jmp.demo.annotated.application.annotations.Application\n" +
+                "@net.jmp.demo.annotated.application.annotations.AppConfig(configFileName = \"" +
+                this.configFile.toString().replace("\\", "\\\\") + "\")\n" +
+                "public final class " + APPLICATION_CLASS_NAME + " {\n" +
+                "    @net.jmp.demo.annotated.application.annotations.AppExec\n" +
+                "    public void execute() {\n" +
+                "    }\n" +
+                "}\n";
+    }
+
+    private String plainSource(final String simpleName) {
+        return "package " + this.packageName + ";\n\n" +
+                "public final class " + simpleName + " {\n" +
+                "    private int value;\n\n" +
+                "    public int getValue() {\n" +
+                "        return this.value;\n" +
+                "    }\n" +
+                "}\n";
+    }
+
+    private String managedSource(final String simpleName, final int numberOfFields) {
+        final var source = new StringBuilder();
+
+        source.append("package ").append(this.packageName).append(";\n\n")
+                .append("@net.jmp.demo.annotated.application.annotations.ManagedClass\n")
+                .append("public final class ").append(simpleName).append(" {\n");
+
+        for (int i = 0; i < numberOfFields; i++) {
+            source.append("    @net.jmp.demo.annotated.application.annotations.ApplicationProperty(name = \"synthetic.property")
+                    .append(i)
+                    .append("\", type = net.jmp.demo.annotated.application.enumerations.PropertyDataType.")
+                    .append(this.propertyDataType(i))
+                    .append(")\n")
+                    .append("    private ").append(this.fieldType(i)).append(" field").append(i).append(";\n");
+        }
+
+        source.append("}\n");
+
+        return source.toString();
+    }
+
+    private String propertyDataType(final int i) {
+        return switch (i % 4) {
+            case 0 -> "INTEGER";
+            case 1 -> "LONG";
+            case 2 -> "BOOLEAN";
+            default -> "STRING";
+        };
+    }
+
+    private String fieldType(final int i) {
+        return switch (i % 4) {
+            case 0 -> "int";
+            case 1 -> "long";
+            case 2 -> "boolean";
+            default -> "String";
+        };
+    }
+
+    private String propertyValue(final int i) {
+        return switch (i % 4) {
+            case 0 -> Integer.toString(i);
+            case 1 -> Long.toString(i * 1_000_000_000L);
+            case 2 -> "yes";
+            default -> "value" + i;
+        };
+    }
+}
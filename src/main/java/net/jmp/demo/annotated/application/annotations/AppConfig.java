@@ -1,10 +1,11 @@
 package net.jmp.demo.annotated.application.annotations;
 
 /*
+ * (#)AppConfig.java    0.7.0   10/18/2026
  * (#)AppConfig.java    0.4.0   03/05/2024
  *
  * @author    Jonathan Parker
- * @version   0.4.0
+ * @version   0.7.0
  * @since     0.4.0
  *
  * MIT License
@@ -41,4 +42,7 @@ import java.lang.annotation.Target;
 @Target({ ElementType.TYPE })
 public @interface AppConfig {
     String configFileName();
+    String[] additionalConfigFileNames() default {};
+    String defaultsResourceName() default "";
+    boolean watch() default false;
 }
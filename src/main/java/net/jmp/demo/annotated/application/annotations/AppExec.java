@@ -1,10 +1,11 @@
 package net.jmp.demo.annotated.application.annotations;
 
 /*
+ * (#)AppExec.java  0.7.0   10/18/2026
  * (#)AppInit.java  0.1.0   02/29/2024
  *
  * @author    Jonathan Parker
- * @version   0.1.0
+ * @version   0.7.0
  * @since     0.1.0
  *
  * MIT License
@@ -36,4 +37,8 @@ import java.lang.annotation.*;
 @Retention(RetentionPolicy.RUNTIME)
 @Target({ElementType.METHOD})
 public @interface AppExec {
+    int UNBOUNDED = 0;
+
+    int concurrency() default 1;
+    int iterations() default 1;
 }
@@ -1,10 +1,11 @@
 package net.jmp.demo.annotated.application.annotations;
 
 /*
+ * (#)ManagedClass.java 0.7.0   10/18/2026
  * (#)ManagedClass.java 0.4.0   03/06/2024
  *
  * @author    Jonathan Parker
- * @version   0.4.0
+ * @version   0.7.0
  * @since     0.4.0
  *
  * MIT License
@@ -34,7 +35,14 @@ import java.lang.annotation.Documented;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 
+import net.jmp.demo.annotated.application.enumerations.ManagedClassScope;
+
 @Documented
 @Retention(RetentionPolicy.RUNTIME)
 public @interface ManagedClass {
+    boolean generateInjector() default false;
+    Class<?>[] dependsOn() default {};
+    ManagedClassScope scope() default ManagedClassScope.PROTOTYPE;
+    /* The most idle POOLED instances kept; it does not limit how many are borrowed at once */
+    int poolSize() default 16;
 }
@@ -1,10 +1,11 @@
 package net.jmp.demo.annotated.application.app;
 
 /*
+ * (#)DemoExecutor.java 0.7.0   10/18/2026
  * (#)DemoExecutor.java 0.4.0   03/05/2024
  *
  * @author    Jonathan Parker
- * @version   0.4.0
+ * @version   0.7.0
  * @since     0.4.0
  *
  * MIT License
@@ -39,7 +40,7 @@ import org.slf4j.LoggerFactory;
 
 import org.slf4j.ext.XLogger;
 
-@ManagedClass
+@ManagedClass(generateInjector = true)
 final class DemoExecutor {
     private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
 
@@ -1,10 +1,11 @@
 package net.jmp.demo.annotated.application.enumerations;
 
 /*
+ * (#)PropertyDataType.java 0.7.0   10/18/2026
  * (#)PropertyDataType.java 0.4.0   03/05/2024
  *
  * @author    Jonathan Parker
- * @version   0.4.0
+ * @version   0.7.0
  * @since     0.4.0
  *
  * MIT License
@@ -32,7 +33,18 @@ package net.jmp.demo.annotated.application.enumerations;
 
 public enum PropertyDataType {
     BOOLEAN,
+    BYTE,
+    CHAR,
+    DATA_SIZE,
+    DOUBLE,
+    DURATION,
+    ENUM,
+    FLOAT,
     INTEGER,
+    INT_ARRAY,
     LONG,
-    STRING
+    LONG_ARRAY,
+    SHORT,
+    STRING,
+    STRING_ARRAY
 }
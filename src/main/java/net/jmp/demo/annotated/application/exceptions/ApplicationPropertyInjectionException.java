@@ -1,10 +1,11 @@
 package net.jmp.demo.annotated.application.exceptions;
 
 /*
+ * (#)ApplicationPropertyInjectionException.java    0.7.0   10/18/2026
  * (#)ApplicationPropertyInjectionException.java    0.5.0   03/07/2024
  *
  * @author    Jonathan Parker
- * @version   0.5.0
+ * @version   0.7.0
  * @since     0.5.0
  *
  * MIT License
@@ -30,9 +31,14 @@ package net.jmp.demo.annotated.application.exceptions;
  * SOFTWARE.
  */
 
+import java.io.Serial;
+
 import net.jmp.demo.annotated.application.enumerations.PropertyInjectionExceptionType;
 
 public final class ApplicationPropertyInjectionException extends PropertyInjectionException {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     /**
      * The no argument constructor.
      */
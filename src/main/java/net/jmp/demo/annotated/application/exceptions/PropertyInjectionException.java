@@ -1,10 +1,11 @@
 package net.jmp.demo.annotated.application.exceptions;
 
 /*
+ * (#)PropertyInjectionException.java   0.7.0   10/18/2026
  * (#)PropertyInjectionException.java   0.5.0   03/07/2024
  *
  * @author    Jonathan Parker
- * @version   0.5.0
+ * @version   0.7.0
  * @since     0.5.0
  *
  * MIT License
@@ -30,10 +31,15 @@ package net.jmp.demo.annotated.application.exceptions;
  * SOFTWARE.
  */
 
+import java.io.Serial;
+
 import net.jmp.demo.annotated.application.enumerations.PropertyDataType;
 import net.jmp.demo.annotated.application.enumerations.PropertyInjectionExceptionType;
 
 public abstract class PropertyInjectionException extends Exception {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     protected String fieldName;
     protected String propertyName;
     protected PropertyDataType dataType;
@@ -0,0 +1,117 @@
+package net.jmp.demo.annotated.application.interfaces;
+
+/*
+ * (#)FrameworkMetricsMXBean.java 0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Map;
+
+/*
+ * Published as net.jmp.demo.annotated.application:type=FrameworkMetrics
+ * with the attributes PhaseNanos, PhaseCounts, ClassesScanned,
+ * AnnotationsFound, InstancesCreated, FieldsInjected, ReflectionMisses
+ * and Summary, and the operation reset.
+ */
+public interface FrameworkMetricsMXBean {
+    /**
+     * Return the PhaseNanos attribute: the total
+     * nanoseconds spent in each application phase,
+     * keyed by the phase name, such as SCAN.
+     *
+     * @return	java.util.Map&lt;java.lang.String, java.lang.Long&gt;
+     */
+    Map<String, Long> getPhaseNanos();
+
+    /**
+     * Return the PhaseCounts attribute: the number
+     * of times each application phase was entered,
+     * keyed by the phase name, such as SCAN.
+     *
+     * @return	java.util.Map&lt;java.lang.String, java.lang.Long&gt;
+     */
+    Map<String, Long> getPhaseCounts();
+
+    /**
+     * Return the ClassesScanned attribute: the
+     * number of classes read by the annotation scan,
+     * or -1 when the scan did not count them. Only the
+     * mapped scan engine counts classes; the annotation
+     * detector and the annotation index do not.
+     *
+     * @return	long
+     */
+    long getClassesScanned();
+
+    /**
+     * Return the AnnotationsFound attribute: the
+     * number of framework annotations found.
+     *
+     * @return	long
+     */
+    long getAnnotationsFound();
+
+    /**
+     * Return the InstancesCreated attribute: the
+     * number of managed instances constructed.
+     *
+     * @return	long
+     */
+    long getInstancesCreated();
+
+    /**
+     * Return the FieldsInjected attribute: the
+     * number of annotated fields written.
+     *
+     * @return	long
+     */
+    long getFieldsInjected();
+
+    /**
+     * Return the ReflectionMisses attribute: the
+     * number of managed classes whose injection
+     * plan had to be built reflectively.
+     *
+     * @return	long
+     */
+    long getReflectionMisses();
+
+    /**
+     * Return the Summary attribute: the one line
+     * summary that is logged when the application
+     * finishes.
+     *
+     * @return	java.lang.String
+     */
+    String getSummary();
+
+    /**
+     * Reset every attribute to zero.
+     */
+    void reset();
+}
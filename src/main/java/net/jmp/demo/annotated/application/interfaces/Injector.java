@@ -0,0 +1,57 @@
+package net.jmp.demo.annotated.application.interfaces;
+
+/*
+ * (#)Injector.java               0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+public interface Injector<T> {
+    /**
+     * Create a new instance of the managed class.
+     *
+     * @return	T
+     */
+    T newInstance();
+
+    /**
+     * Return the names of the fields, each qualified
+     * by the binary name of its declaring class, in
+     * the order in which inject expects their values.
+     *
+     * @return	java.lang.String[]
+     */
+    String[] getFieldNames();
+
+    /**
+     * Write the values into the fields of the instance.
+     *
+     * @param	instance	T
+     * @param	values		java.lang.Object[]
+     */
+    void inject(T instance, Object[] values);
+}
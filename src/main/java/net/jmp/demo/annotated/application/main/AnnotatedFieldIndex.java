@@ -0,0 +1,83 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)AnnotatedFieldIndex.java    0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.jmp.demo.annotated.application.records.AnnotatedField;
+
+/*
+ * The annotated field names of each class, grouped once from the
+ * scan results so that a class is planned without walking the
+ * fields of every other class.
+ */
+final class AnnotatedFieldIndex {
+    static final AnnotatedFieldIndex EMPTY = new AnnotatedFieldIndex(Map.of(), 0);
+
+    private final Map<String, List<String>> fieldNames;
+    private final int size;
+
+    private AnnotatedFieldIndex(final Map<String, List<String>> fieldNames, final int size) {
+        super();
+
+        this.fieldNames = fieldNames;
+        this.size = size;
+    }
+
+    static AnnotatedFieldIndex of(final List<AnnotatedField> annotatedFields) {
+        assert annotatedFields != null;
+
+        final var grouped = new HashMap<String, List<String>>();
+
+        for (final var annotatedField : annotatedFields)
+            grouped.computeIfAbsent(annotatedField.className(), key -> new ArrayList<>()).add(annotatedField.fieldName());
+
+        grouped.replaceAll((className, names) -> List.copyOf(names));
+
+        return new AnnotatedFieldIndex(Map.copyOf(grouped), annotatedFields.size());
+    }
+
+    /* In the order the fields were reported */
+    List<String> getFieldNames(final String className) {
+        return this.fieldNames.getOrDefault(className, List.of());
+    }
+
+    boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    int size() {
+        return this.size;
+    }
+}
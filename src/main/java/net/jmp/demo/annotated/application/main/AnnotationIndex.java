@@ -0,0 +1,140 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)AnnotationIndex.java        0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+
+import java.net.URL;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import net.jmp.demo.annotated.application.processors.AnnotationIndexProcessor;
+
+import net.jmp.demo.annotated.application.records.AnnotatedField;
+import net.jmp.demo.annotated.application.records.ScanResults;
+
+import org.slf4j.LoggerFactory;
+
+import org.slf4j.ext.XLogger;
+
+final class AnnotationIndex {
+    private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
+
+    private final ClassLoader classLoader;
+
+    AnnotationIndex() {
+        this(AnnotationIndex.class.getClassLoader());
+    }
+
+    AnnotationIndex(final ClassLoader classLoader) {
+        super();
+
+        this.classLoader = classLoader;
+    }
+
+    Optional<ScanResults> read() {
+        this.logger.entry();
+
+        ScanResults results = null;
+
+        try {
+            final var indexUrls = Collections.list(this.classLoader.getResources(AnnotationIndexProcessor.INDEX_FILE_NAME));
+
+            if (!indexUrls.isEmpty()) {
+                final var applicationClassNames = new ArrayList<String>();
+                final var managedClassNames = new ArrayList<String>();
+                final var annotatedFields = new ArrayList<AnnotatedField>();
+
+                for (final var indexUrl : indexUrls)
+                    this.readIndex(indexUrl, applicationClassNames, managedClassNames, annotatedFields);
+
+                results = new ScanResults(
+                        List.copyOf(applicationClassNames),
+                        List.copyOf(managedClassNames),
+                        List.copyOf(annotatedFields)
+                );
+            } else {
+                this.logger.debug("No annotation index found: {}", AnnotationIndexProcessor.INDEX_FILE_NAME);
+            }
+        } catch (final IOException ioe) {
+            this.logger.catching(ioe);
+        }
+
+        this.logger.exit(results);
+
+        return Optional.ofNullable(results);
+    }
+
+    private void readIndex(
+            final URL indexUrl,
+            final List<String> applicationClassNames,
+            final List<String> managedClassNames,
+            final List<AnnotatedField> annotatedFields
+    ) throws IOException {
+        this.logger.entry(indexUrl, applicationClassNames, managedClassNames, annotatedFields);
+
+        assert indexUrl != null;
+
+        this.logger.debug("Reading annotation index: {}", indexUrl);
+
+        try (final BufferedReader reader = new BufferedReader(new InputStreamReader(indexUrl.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                line = line.strip();
+
+                if (line.isEmpty() || line.startsWith("#"))
+                    continue;
+
+                final var tokens = line.split("\\s+");
+
+                switch (tokens[0]) {
+                    case AnnotationIndexProcessor.APPLICATION -> applicationClassNames.add(tokens[1]);
+                    case AnnotationIndexProcessor.MANAGED_CLASS -> managedClassNames.add(tokens[1]);
+                    case AnnotationIndexProcessor.APPLICATION_PROPERTY ->
+                            annotatedFields.add(new AnnotatedField(tokens[1], tokens[2], tokens.length > 3 ? tokens[3] : null));
+                    case AnnotationIndexProcessor.SYSTEM_PROPERTY ->
+                            annotatedFields.add(new AnnotatedField(tokens[1], tokens[2], ""));
+                    default -> this.logger.warn("Unrecognized annotation index entry: {}", line);
+                }
+            }
+        }
+
+        this.logger.exit();
+    }
+}
@@ -0,0 +1,351 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)AnnotationScanner.java      0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import eu.infomas.annotation.AnnotationDetector;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Serial;
+
+import java.lang.annotation.Annotation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import net.jmp.demo.annotated.application.annotations.Application;
+import net.jmp.demo.annotated.application.annotations.ApplicationProperty;
+import net.jmp.demo.annotated.application.annotations.ManagedClass;
+import net.jmp.demo.annotated.application.annotations.SystemProperty;
+
+import net.jmp.demo.annotated.application.enumerations.ScanEngine;
+
+import net.jmp.demo.annotated.application.records.AnnotatedField;
+import net.jmp.demo.annotated.application.records.ScanResults;
+
+import org.slf4j.LoggerFactory;
+
+import org.slf4j.ext.XLogger;
+
+final class AnnotationScanner {
+    static final String SCAN_ENGINE_PROPERTY = "annotated.application.scan.engine";
+    static final String SCAN_PARALLELISM_PROPERTY = "annotated.application.scan.parallelism";
+
+    private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
+    private final ScanEngine scanEngine = this.getScanEngine();
+    private final int parallelism = this.getParallelism();
+    private final ScanScope scope;
+    private final File[] roots;
+
+    AnnotationScanner() {
+        super();
+
+        this.scope = ScanScope.fromSystemProperties();
+        this.roots = new File[0];
+    }
+
+    /* Scans only the given directories and jar files, ignoring any index */
+    AnnotationScanner(final File... roots) {
+        super();
+
+        this.scope = new ScanScope(List.of(), List.of(), List.of());
+        this.roots = roots;
+    }
+
+    private ScanEngine getScanEngine() {
+        final var value = System.getProperty(SCAN_ENGINE_PROPERTY, ScanEngine.DETECTOR.name());
+
+        try {
+            return ScanEngine.valueOf(value.strip().toUpperCase());
+        } catch (final IllegalArgumentException iae) {
+            this.logger.warn("Unrecognized {}: {}", SCAN_ENGINE_PROPERTY, value);
+
+            return ScanEngine.DETECTOR;
+        }
+    }
+
+    /* Zero uses every available processor; one scans sequentially */
+    private int getParallelism() {
+        final var value = System.getProperty(SCAN_PARALLELISM_PROPERTY, "1");
+
+        try {
+            final var parallelism = Integer.parseInt(value.strip());
+
+            if (parallelism >= 0)
+                return parallelism == 0 ? Runtime.getRuntime().availableProcessors() : parallelism;
+        } catch (final NumberFormatException nfe) {
+            this.logger.catching(nfe);
+        }
+
+        this.logger.warn("Unrecognized {}: {}", SCAN_PARALLELISM_PROPERTY, value);
+
+        return 1;
+    }
+
+    ScanResults scan() {
+        this.logger.entry();
+
+        final var results = this.roots.length == 0
+                ? new AnnotationIndex().read().map(this.scope::filter).orElseGet(this::detect)
+                : this.detect();
+
+        FrameworkMetrics.getInstance().addAnnotationsFound(
+                results.applicationClassNames().size() +
+                results.managedClassNames().size() +
+                results.annotatedFields().size()
+        );
+
+        this.logger.exit(results);
+
+        return results;
+    }
+
+    private ScanResults detect() {
+        this.logger.entry();
+
+        final ScanResults results;
+
+        if (this.roots.length != 0) {
+            results = this.detect(this.roots);
+        } else {
+            final var scopedRoots = this.scope.getRoots(System.getProperty("java.class.path"));
+            final var scanCache = ScanCache.fromSystemProperties(this.scope, scopedRoots);
+
+            results = scanCache.flatMap(ScanCache::read).orElseGet(() -> {
+                final var detected = this.scope.hasPackageNames() && this.scanEngine == ScanEngine.DETECTOR
+                        ? this.detect(this.scope.getPackageNames())
+                        : this.detect(scopedRoots);
+
+                scanCache.ifPresent(cache -> cache.write(detected));
+
+                return detected;
+            });
+        }
+
+        this.logger.exit(results);
+
+        return results;
+    }
+
+    private ScanResults detect(final File[] scopedRoots) {
+        if (this.parallelism > 1 && scopedRoots.length > 1)
+            return this.scanInParallel(scopedRoots);
+
+        if (this.scanEngine == ScanEngine.MAPPED)
+            return this.scanMapped(scopedRoots);
+
+        return this.detect(annotationDetector -> annotationDetector.detect(scopedRoots));
+    }
+
+    /* Each root is scanned by its own task; results are merged in classpath order */
+    private ScanResults scanInParallel(final File[] scopedRoots) {
+        this.logger.entry((Object) scopedRoots);
+
+        this.logger.debug("Scanning {} classpath entries with a parallelism of {}", scopedRoots.length, this.parallelism);
+
+        final var forkJoinPool = new ForkJoinPool(this.parallelism);
+
+        try {
+            final var results = forkJoinPool.invoke(new ScanTask(scopedRoots, 0, scopedRoots.length));
+
+            this.logger.exit(results);
+
+            return results;
+        } finally {
+            forkJoinPool.shutdown();
+        }
+    }
+
+    private ScanResults scanMapped(final File[] scopedRoots) {
+        this.logger.entry((Object) scopedRoots);
+
+        final var mappedScanner = new MappedAnnotationScanner(this.scope);
+
+        var results = mappedScanner.scan(scopedRoots);
+
+        if (!mappedScanner.getUnreadableRoots().isEmpty()) {
+            final var unreadableRoots = mappedScanner.getUnreadableRoots().toArray(new File[0]);
+
+            results = merge(results, this.scope.filter(this.detect(annotationDetector -> annotationDetector.detect(unreadableRoots))));
+        }
+
+        this.logger.exit(results);
+
+        return results;
+    }
+
+    private ScanResults detect(final String[] packageNames) {
+        return this.detect(annotationDetector -> annotationDetector.detect(packageNames));
+    }
+
+    private ScanResults detect(final Detection detection) {
+        this.logger.entry(detection);
+
+        this.logger.debug("Scanning the classpath for annotations within {}", this.scope);
+
+        final var reporter = new Reporter();
+
+        try {
+            detection.detect(new AnnotationDetector(reporter));
+        } catch (final IOException ioe) {
+            this.logger.catching(ioe);
+        }
+
+        final var results = new ScanResults(
+                List.copyOf(reporter.getApplicationClassNames()),
+                List.copyOf(reporter.getManagedClassNames()),
+                List.copyOf(reporter.getAnnotatedFields())
+        );
+
+        this.logger.exit(results);
+
+        return results;
+    }
+
+    private static ScanResults merge(final ScanResults first, final ScanResults second) {
+        return new ScanResults(
+                concat(first.applicationClassNames(), second.applicationClassNames()),
+                concat(first.managedClassNames(), second.managedClassNames()),
+                concat(first.annotatedFields(), second.annotatedFields())
+        );
+    }
+
+    private static <T> List<T> concat(final List<T> first, final List<T> second) {
+        final var list = new ArrayList<T>(first);
+
+        list.addAll(second);
+
+        return List.copyOf(list);
+    }
+
+    @FunctionalInterface
+    private interface Detection {
+        void detect(AnnotationDetector annotationDetector) throws IOException;
+    }
+
+    private final class ScanTask extends RecursiveTask<ScanResults> {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final File[] scopedRoots;
+        private final int from;
+        private final int to;
+
+        private ScanTask(final File[] scopedRoots, final int from, final int to) {
+            super();
+
+            this.scopedRoots = scopedRoots;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected ScanResults compute() {
+            if (this.to - this.from == 1) {
+                final var root = new File[] {this.scopedRoots[this.from]};
+
+                return scanEngine == ScanEngine.MAPPED
+                        ? scanMapped(root)
+                        : detect(annotationDetector -> annotationDetector.detect(root));
+            }
+
+            final var middle = (this.from + this.to) >>> 1;
+            final var left = new ScanTask(this.scopedRoots, this.from, middle);
+            final var right = new ScanTask(this.scopedRoots, middle, this.to);
+
+            left.fork();
+
+            final var rightResults = right.compute();
+
+            return merge(left.join(), rightResults);
+        }
+    }
+
+    class Reporter implements AnnotationDetector.TypeReporter, AnnotationDetector.FieldReporter {
+        private final List<String> applicationClassNames = new ArrayList<>();
+        private final List<String> managedClassNames = new ArrayList<>();
+        private final List<AnnotatedField> annotatedFields = new ArrayList<>();
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public Class<? extends Annotation>[] annotations() {
+            return (Class<? extends Annotation>[]) new Class<?>[] {Application.class, ManagedClass.class, ApplicationProperty.class, SystemProperty.class};
+        }
+
+        @Override
+        public void reportTypeAnnotation(
+                final Class<? extends Annotation> annotation,
+                final String className
+        ) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Found annotated class: {}", className);
+                logger.debug("Annotated with       : {}", annotation.getName());
+            }
+
+            if (annotation == Application.class)
+                this.applicationClassNames.add(className);
+            else if (annotation == ManagedClass.class)
+                this.managedClassNames.add(className);
+        }
+
+        @Override
+        public void reportFieldAnnotation(
+                final Class<? extends Annotation> annotation,
+                final String className,
+                final String fieldName
+        ) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Found annotation class: {}", annotation.getName());
+                logger.debug("Class name            : {}", className);
+                logger.debug("Field name            : {}", fieldName);
+            }
+
+            /* The detector does not report attribute values, so an application property's name is unknown */
+
+            this.annotatedFields.add(new AnnotatedField(className, fieldName, annotation == SystemProperty.class ? "" : null));
+        }
+
+        List<String> getApplicationClassNames() {
+            return this.applicationClassNames;
+        }
+
+        List<String> getManagedClassNames() {
+            return this.managedClassNames;
+        }
+
+        List<AnnotatedField> getAnnotatedFields() {
+            return this.annotatedFields;
+        }
+    }
+}
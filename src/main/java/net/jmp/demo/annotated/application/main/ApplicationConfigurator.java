@@ -1,11 +1,12 @@
 package net.jmp.demo.annotated.application.main;
 
 /*
+ * (#)ApplicationConfigurator.java  0.7.0   10/18/2026
  * (#)ApplicationConfigurator.java  0.5.0   03/08/2024
  * (#)ApplicationConfigurator.java  0.4.0   03/05/2024
  *
  * @author    Jonathan Parker
- * @version   0.5.0
+ * @version   0.7.0
  * @since     0.4.0
  *
  * MIT License
@@ -31,24 +32,19 @@ package net.jmp.demo.annotated.application.main;
  * SOFTWARE.
  */
 
-import eu.infomas.annotation.AnnotationDetector;
-
-import java.io.BufferedInputStream;
-import java.io.FileInputStream;
 import java.io.IOException;
 
-import java.lang.annotation.Annotation;
-
-import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
-import java.util.Properties;
+import java.util.Set;
 
 import net.jmp.demo.annotated.application.annotations.AppConfig;
 import net.jmp.demo.annotated.application.annotations.ApplicationProperty;
-import net.jmp.demo.annotated.application.annotations.SystemProperty;
+
+import net.jmp.demo.annotated.application.exceptions.PropertyInjectionException;
 
 import net.jmp.demo.annotated.application.records.AnnotatedField;
+import net.jmp.demo.annotated.application.records.ScanResults;
 
 import org.slf4j.LoggerFactory;
 
@@ -57,139 +53,187 @@ import org.slf4j.ext.XLogger;
 final class ApplicationConfigurator {
     private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
 
-    private static Properties properties;
-
-    private static List<AnnotatedField> annotatedFields;
-
     ApplicationConfigurator() {
         super();
     }
 
-    private static void setProperties(final Properties properties) {
-        ApplicationConfigurator.properties = properties;
+    /* The properties of the application whose context is bound to the current thread */
+    static PropertySnapshot getPropertySnapshot() {
+        return ApplicationContext.getCurrent().getPropertySnapshot();
     }
 
-    static Properties getProperties() {
-        return ApplicationConfigurator.properties;
+    static AnnotatedFieldIndex getAnnotatedFieldIndex() {
+        return ApplicationContext.getCurrent().getAnnotatedFieldIndex();
     }
 
-    static List<AnnotatedField> getAnnotatedFields() {
-        return ApplicationConfigurator.annotatedFields;
+    void configureApplication(final Class<?> applicationClass, final ScanResults scanResults) {
+        this.configureApplication(applicationClass, scanResults, List.of());
     }
 
-    private static void setAnnotatedFields(List<AnnotatedField> annotatedFields) {
-        ApplicationConfigurator.annotatedFields = annotatedFields;
+    /* The arguments are the command-line arguments given to the application */
+    void configureApplication(final Class<?> applicationClass, final ScanResults scanResults, final List<String> arguments) {
+        this.logger.entry(applicationClass, scanResults, arguments);
+
+        assert applicationClass != null;
+        assert scanResults != null;
+        assert arguments != null;
+
+        final var context = ApplicationContext.getCurrent();
+        final var appConfig = applicationClass.getAnnotation(AppConfig.class);
+        final var annotatedFieldIndex = AnnotatedFieldIndex.of(scanResults.annotatedFields());
+        final var propertySources = PropertySources.of(applicationClass, arguments, this.getReferencedKeys(applicationClass, scanResults.annotatedFields()));
+
+        context.setAnnotatedFieldIndex(annotatedFieldIndex);
+        context.setPropertySources(propertySources);
+        context.setPropertySnapshot(new PropertySnapshot(propertySources.load()));
+
+        if (!context.getPropertySnapshot().isEmpty()) {
+            if (this.arePropertyAnnotationsPresent())
+                this.logger.debug("Configuration captured");
+        } else if (appConfig != null) {
+            this.logger.warn("No properties found in the configuration");
+        }
+
+        if (appConfig != null && appConfig.watch())
+            this.watchConfiguration(propertySources.getConfigFileNames());
+
+        this.logger.exit();
     }
 
-    void configureApplication(final Class<?> applicationClass) {
-        this.logger.entry(applicationClass);
+    /*
+     * Reloads every property source and re-injects the properties that
+     * changed into the live managed instances. The previous properties
+     * are restored if any changed value cannot be injected.
+     */
+    void reloadConfiguration() {
+        this.logger.entry();
 
-        assert applicationClass != null;
+        final var context = ApplicationContext.getCurrent();
+        final var propertySources = context.getPropertySources();
+
+        if (propertySources != null) {
+            final var previousSnapshot = context.getPropertySnapshot();
+            final var reloadedSnapshot = new PropertySnapshot(propertySources.load());
+            final var changedKeys = previousSnapshot.getChangedKeys(reloadedSnapshot);
 
-        this.isApplicationConfigured(applicationClass).ifPresent(configFileName -> {
-            ApplicationConfigurator.setProperties(this.loadProperties(configFileName));
+            if (!changedKeys.isEmpty()) {
+                this.logger.info("Reloading changed application properties: {}", changedKeys);
 
-            if (!properties.isEmpty()) {
-                if (this.arePropertyAnnotationsPresent())
-                    this.logger.debug("Configuration captured");
+                context.setPropertySnapshot(reloadedSnapshot);
+
+                try {
+                    ClassManager.reinject(changedKeys);
+                } catch (final PropertyInjectionException | RuntimeException e) {
+                    this.logger.catching(e);
+                    this.logger.error("Restoring the previous application properties");
+
+                    context.setPropertySnapshot(previousSnapshot);
+                    ClassManager.clearInjectionPlans();
+                }
             } else {
-                this.logger.warn("No properties found in the configuration");
+                this.logger.debug("No application properties changed");
             }
-        });
+        }
 
         this.logger.exit();
     }
 
-    private Optional<String> isApplicationConfigured(final Class<?> applicationClass) {
-        this.logger.entry(applicationClass);
+    /* Stops watching the configuration file, as before a checkpoint */
+    void suspendConfiguration() {
+        this.logger.entry();
 
-        assert applicationClass != null;
+        try {
+            ApplicationContext.getCurrent().setConfigurationWatcher(null);
+        } catch (final IOException ioe) {
+            this.logger.catching(ioe);
+        }
+
+        this.logger.exit();
+    }
 
-        String configFileName = null;
+    /*
+     * Reloads the property sources, as after a restore, and watches
+     * the configuration files again if the application asks for that.
+     */
+    void restoreConfiguration(final Class<?> applicationClass) {
+        this.logger.entry(applicationClass);
 
-        final var annotation = applicationClass.getAnnotation(AppConfig.class);
+        assert applicationClass != null;
 
-        if (annotation != null) {
-            configFileName = annotation.configFileName();
+        final var appConfig = applicationClass.getAnnotation(AppConfig.class);
 
-            this.logger.debug("Will be configured with: {}", configFileName);
-        }
+        this.reloadConfiguration();
 
-        this.logger.exit(configFileName);
+        if (appConfig != null && appConfig.watch())
+            this.watchConfiguration(ApplicationContext.getCurrent().getPropertySources().getConfigFileNames());
 
-        return Optional.ofNullable(configFileName);
+        this.logger.exit();
     }
 
-    private Properties loadProperties(final String configFileName) {
-        this.logger.entry(configFileName);
+    private void watchConfiguration(final List<String> configFileNames) {
+        this.logger.entry(configFileNames);
 
-        assert configFileName != null;
+        assert configFileNames != null;
 
-        final var props = new Properties();
+        final var context = ApplicationContext.getCurrent();
 
-        if (!configFileName.isBlank()) {
-            this.logger.debug("Loading application properties from configuration file: {}", configFileName);
-
-            try (final FileInputStream fis = new FileInputStream(configFileName)) {
-                try (final BufferedInputStream bis = new BufferedInputStream(fis)) {
-                    props.load(bis);
-                    this.logger.debug("Done loading application properties");
-                }
+        if (!configFileNames.isEmpty()) {
+            try {
+                context.setConfigurationWatcher(ConfigurationWatcher.start(context, configFileNames));
+                context.setTrackingInstances(true);
             } catch (final IOException ioe) {
                 this.logger.catching(ioe);
             }
         }
 
-        this.logger.exit(props);
-
-        return props;
+        this.logger.exit();
     }
 
-    private boolean arePropertyAnnotationsPresent() {
-        this.logger.entry();
+    /*
+     * The keys named by @ApplicationProperty on the annotated fields.
+     * The names come from the scan results; a class is loaded, without
+     * being initialized, only for a field whose name the scan did not
+     * read. The keys are unknown (null) when a class or field cannot be
+     * resolved.
+     */
+    private Set<String> getReferencedKeys(final Class<?> applicationClass, final List<AnnotatedField> annotatedFields) {
+        this.logger.entry(applicationClass, annotatedFields);
 
-        final var fieldReporter = new FieldReporter();
-        final var annotationDetector = new AnnotationDetector(fieldReporter);
+        var keys = new HashSet<String>();
 
         try {
-            annotationDetector.detect();
-        } catch (final IOException ioe) {
-            this.logger.catching(ioe);
-        }
-
-        ApplicationConfigurator.setAnnotatedFields(fieldReporter.getAnnotatedFields());
+            for (final var annotatedField : annotatedFields) {
+                final var propertyName = annotatedField.applicationPropertyName();
 
-        final var result = !ApplicationConfigurator.annotatedFields.isEmpty();
+                if (propertyName == null) {
+                    final var annotatedClass = Class.forName(annotatedField.className(), false, applicationClass.getClassLoader());
+                    final var applicationProperty = annotatedClass.getDeclaredField(annotatedField.fieldName()).getAnnotation(ApplicationProperty.class);
 
-        this.logger.exit(result);
+                    if (applicationProperty != null)
+                        keys.add(applicationProperty.name());
+                } else if (!propertyName.isEmpty()) {
+                    keys.add(propertyName);
+                }
+            }
+        } catch (final ClassNotFoundException | NoSuchFieldException e) {
+            this.logger.catching(e);
+            this.logger.warn("Keeping every application property; the referenced keys are unknown");
 
-        return result;
-    }
+            keys = null;
+        }
 
-    class FieldReporter implements AnnotationDetector.FieldReporter {
-        private final List<AnnotatedField> annotatedFields = new ArrayList<>();
+        this.logger.exit(keys);
 
-        @Override
-        public void reportFieldAnnotation(final Class<? extends Annotation> aClass, final String s, final String s1) {
-            final var annotatedField = new AnnotatedField(s, s1);
+        return keys;
+    }
 
-            this.annotatedFields.add(annotatedField);
+    private boolean arePropertyAnnotationsPresent() {
+        this.logger.entry();
 
-            if (logger.isDebugEnabled()) {
-                logger.debug("Found annotation class: {}", aClass.getName());
-                logger.debug("Class name            : {}", s);
-                logger.debug("Field name            : {}", s1);
-            }
-        }
+        final var result = !ApplicationConfigurator.getAnnotatedFieldIndex().isEmpty();
 
-        @SuppressWarnings("unchecked")
-        @Override
-        public Class<? extends Annotation>[] annotations() {
-            return new Class[]{ApplicationProperty.class, SystemProperty.class};
-        }
+        this.logger.exit(result);
 
-        public List<AnnotatedField> getAnnotatedFields() {
-            return this.annotatedFields;
-        }
+        return result;
     }
 }
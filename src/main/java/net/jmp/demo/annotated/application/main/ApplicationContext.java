@@ -0,0 +1,173 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)ApplicationContext.java     0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+
+import java.lang.ref.WeakReference;
+
+import java.util.List;
+import java.util.Map;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import java.util.function.Supplier;
+
+/*
+ * The state of one application: its property sources and merged
+ * properties, the annotated fields of the scan, and the injection
+ * plans, scoped instances and live instances of its managed classes.
+ * The context of the running application is bound to its thread and
+ * inherited by the threads that it starts. Code running outside of
+ * any application uses a shared default context.
+ */
+final class ApplicationContext {
+    private static final ApplicationContext DEFAULT = new ApplicationContext(null);
+
+    private static final InheritableThreadLocal<ApplicationContext> current = new InheritableThreadLocal<>();
+
+    private final Class<?> applicationClass;
+    private final Map<Class<?>, InjectionPlan> injectionPlans = new ConcurrentHashMap<>();
+    private final Map<Class<?>, List<WeakReference<Object>>> liveInstances = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ScopedInstances> scopedInstances = new ConcurrentHashMap<>();
+
+    private volatile PropertySources propertySources;
+    private volatile PropertySnapshot propertySnapshot = PropertySnapshot.EMPTY;
+    private volatile AnnotatedFieldIndex annotatedFieldIndex = AnnotatedFieldIndex.EMPTY;
+    private volatile boolean trackingInstances;
+
+    private ConfigurationWatcher configurationWatcher;
+
+    ApplicationContext(final Class<?> applicationClass) {
+        super();
+
+        this.applicationClass = applicationClass;
+    }
+
+    static ApplicationContext getCurrent() {
+        final var context = current.get();
+
+        return context != null ? context : DEFAULT;
+    }
+
+    /* Runs the task with this context bound to the current thread */
+    <T> T call(final Supplier<T> task) {
+        final var previous = current.get();
+
+        current.set(this);
+
+        try {
+            return task.get();
+        } finally {
+            if (previous != null)
+                current.set(previous);
+            else
+                current.remove();
+        }
+    }
+
+    void run(final Runnable task) {
+        this.call(() -> {
+            task.run();
+
+            return null;
+        });
+    }
+
+    Class<?> getApplicationClass() {
+        return this.applicationClass;
+    }
+
+    Map<Class<?>, InjectionPlan> getInjectionPlans() {
+        return this.injectionPlans;
+    }
+
+    Map<Class<?>, List<WeakReference<Object>>> getLiveInstances() {
+        return this.liveInstances;
+    }
+
+    Map<Class<?>, ScopedInstances> getScopedInstances() {
+        return this.scopedInstances;
+    }
+
+    PropertySources getPropertySources() {
+        return this.propertySources;
+    }
+
+    void setPropertySources(final PropertySources propertySources) {
+        this.propertySources = propertySources;
+    }
+
+    PropertySnapshot getPropertySnapshot() {
+        return this.propertySnapshot;
+    }
+
+    void setPropertySnapshot(final PropertySnapshot propertySnapshot) {
+        this.propertySnapshot = propertySnapshot;
+    }
+
+    AnnotatedFieldIndex getAnnotatedFieldIndex() {
+        return this.annotatedFieldIndex;
+    }
+
+    void setAnnotatedFieldIndex(final AnnotatedFieldIndex annotatedFieldIndex) {
+        this.annotatedFieldIndex = annotatedFieldIndex;
+    }
+
+    boolean isTrackingInstances() {
+        return this.trackingInstances;
+    }
+
+    /* Live instances are tracked only while the configuration is watched */
+    void setTrackingInstances(final boolean trackingInstances) {
+        this.trackingInstances = trackingInstances;
+
+        if (!trackingInstances)
+            this.liveInstances.clear();
+    }
+
+    /* Replaces the watcher of the configuration file, closing any previous one */
+    synchronized void setConfigurationWatcher(final ConfigurationWatcher configurationWatcher) throws IOException {
+        if (this.configurationWatcher != null)
+            this.configurationWatcher.close();
+
+        this.configurationWatcher = configurationWatcher;
+    }
+
+    /* Stops watching the configuration and forgets every instance */
+    void close() throws IOException {
+        this.setConfigurationWatcher(null);
+        this.setTrackingInstances(false);
+
+        this.scopedInstances.clear();
+        this.injectionPlans.clear();
+    }
+}
@@ -1,10 +1,11 @@
 package net.jmp.demo.annotated.application.main;
 
 /*
+ * (#)Main.ApplicationExecutor  0.7.0   10/18/2026
  * (#)Main.ApplicationExecutor  0.2.0   02/29/2024
  *
  * @author    Jonathan Parker
- * @version   0.2.0
+ * @version   0.7.0
  * @since     0.2.0
  *
  * MIT License
@@ -37,16 +38,31 @@ import java.lang.reflect.Method;
 
 import java.util.Optional;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import net.jmp.demo.annotated.application.annotations.AppExec;
 import net.jmp.demo.annotated.application.annotations.AppInit;
 import net.jmp.demo.annotated.application.annotations.AppTerm;
 
+import net.jmp.demo.annotated.application.enumerations.ApplicationPhase;
+
 import org.slf4j.LoggerFactory;
 
 import org.slf4j.ext.XLogger;
 
 final class ApplicationExecutor {
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    /* Returned in place of a result when the invocation throws */
+    private static final Object FAILED = new Object();
+
     private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
+    private final CountDownLatch finished = new CountDownLatch(1);
 
     ApplicationExecutor() {
         super();
@@ -91,19 +107,141 @@ final class ApplicationExecutor {
         final var appExec = this.getAppMethod(applicationClass, AppExec.class);
         final var appTerm = this.getAppMethod(applicationClass, AppTerm.class);
 
-        appInit.ifPresent(method -> this.invokeAnnotatedMethod(applicationInstance, method));
+        final var metrics = FrameworkMetrics.getInstance();
+
+        try {
+            var start = System.nanoTime();
+
+            appInit.ifPresent(method -> this.invokeAnnotatedMethod(applicationInstance, method));
+
+            metrics.record(ApplicationPhase.INIT, System.nanoTime() - start);
+            start = System.nanoTime();
+
+            if (appExec.isPresent()) {
+                this.invokeExecMethod(applicationInstance, appExec.get());
+            } else {
+                this.logger.warn("No annotated execution method was found in application: {}", applicationClass.getName());
+            }
+
+            metrics.record(ApplicationPhase.EXEC, System.nanoTime() - start);
+            start = System.nanoTime();
+
+            appTerm.ifPresent(method -> this.invokeAnnotatedMethod(applicationInstance, method));
+
+            metrics.record(ApplicationPhase.TERM, System.nanoTime() - start);
+        } finally {
+            this.finished.countDown();
+        }
+
+        this.logger.exit();
+    }
+
+    private void invokeExecMethod(final Object applicationInstance, final Method method) {
+        this.logger.entry(applicationInstance, method);
+
+        assert applicationInstance != null;
+        assert method != null;
+
+        final var appExec = method.getAnnotation(AppExec.class);
+
+        var concurrency = appExec.concurrency();
+        var iterations = appExec.iterations();
 
-        if (appExec.isPresent()) {
-            this.invokeAnnotatedMethod(applicationInstance, appExec.get());
-        } else {
-            this.logger.warn("No annotated execution method was found in application: {}", applicationClass.getName());
+        if (concurrency < 1) {
+            this.logger.warn("Invalid @AppExec concurrency {}; using 1", concurrency);
+
+            concurrency = 1;
+        }
+
+        if (iterations < 0) {
+            this.logger.warn("Invalid @AppExec iterations {}; using 1", iterations);
+
+            iterations = 1;
+        }
+
+        if (concurrency == 1 && iterations == 1)
+            this.invokeAnnotatedMethod(applicationInstance, method);
+        else
+            this.invokeConcurrently(applicationInstance, method, concurrency, iterations);
+
+        this.logger.exit();
+    }
+
+    /*
+     * Runs the method on the given number of virtual threads until it
+     * has been invoked the given number of times, or, when iterations
+     * is unbounded, until the method returns false or the JVM begins
+     * to shut down. Returning false stops every thread in either case;
+     * throwing stops only the thread that invoked it, so a failing
+     * method is not re-invoked in a tight loop.
+     */
+    private void invokeConcurrently(
+            final Object applicationInstance,
+            final Method method,
+            final int concurrency,
+            final int iterations) {
+        this.logger.entry(applicationInstance, method, concurrency, iterations);
+
+        this.logger.debug("Invoking '{}' on {} virtual thread(s) for {} iteration(s)",
+                method.getName(),
+                concurrency,
+                iterations == AppExec.UNBOUNDED ? "unbounded" : iterations);
+
+        final var unbounded = iterations == AppExec.UNBOUNDED;
+        final var remaining = new AtomicInteger(iterations);
+        final var stopped = new AtomicBoolean(false);
+
+        final var executor = Executors.newVirtualThreadPerTaskExecutor();
+        final var shutdownHook = new Thread(() -> {
+            stopped.set(true);
+            executor.shutdownNow();
+
+            this.awaitFinished();
+        });
+
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+
+        try (executor) {
+            for (int i = 0; i < concurrency; i++) {
+                executor.submit(() -> {
+                    while (!stopped.get() && !Thread.currentThread().isInterrupted() && (unbounded || remaining.getAndDecrement() > 0)) {
+                        final var result = this.invokeAnnotatedMethod(applicationInstance, method);
+
+                        if (result == FAILED) {
+                            this.logger.warn("Stopping a thread of '{}' after it failed", method.getName());
+
+                            break;
+                        }
+
+                        if (Boolean.FALSE.equals(result))
+                            stopped.set(true);
+                    }
+                });
+            }
         }
 
-        appTerm.ifPresent(method -> this.invokeAnnotatedMethod(applicationInstance, method));
+        this.removeShutdownHook(shutdownHook);
 
         this.logger.exit();
     }
 
+    private void awaitFinished() {
+        try {
+            if (!this.finished.await(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS))
+                this.logger.warn("Application did not terminate within {} seconds", SHUTDOWN_TIMEOUT_SECONDS);
+        } catch (final InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void removeShutdownHook(final Thread shutdownHook) {
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (final IllegalStateException ise) {
+            // The JVM is already shutting down
+        }
+    }
+
     private Optional<Method> getAppMethod(final Class<?> appClass, final Class<? extends Annotation> annotation) {
         this.logger.entry(appClass, annotation);
 
@@ -129,18 +267,24 @@ final class ApplicationExecutor {
         return Optional.ofNullable(result);
     }
 
-    private void invokeAnnotatedMethod(final Object appClassInstance, final Method method) {
+    private Object invokeAnnotatedMethod(final Object appClassInstance, final Method method) {
         this.logger.entry(appClassInstance, method);
 
         assert appClassInstance != null;
         assert method != null;
 
+        Object result = null;
+
         try {
-            method.invoke(appClassInstance);
+            result = method.invoke(appClassInstance);
         } catch (IllegalAccessException | InvocationTargetException e) {
             this.logger.catching(e);
+
+            result = FAILED;
         }
 
-        this.logger.exit();
+        this.logger.exit(result);
+
+        return result;
     }
 }
@@ -1,11 +1,12 @@
 package net.jmp.demo.annotated.application.main;
 
 /*
+ * (#)ApplicationLocator    0.7.0   10/18/2026
  * (#)ApplicationLocator    0.4.0   03/06/2024
  * (#)ApplicationLocator    0.2.0   02/29/2024
  *
  * @author    Jonathan Parker
- * @version   0.4.0
+ * @version   0.7.0
  * @since     0.2.0
  *
  * MIT License
@@ -31,15 +32,11 @@ package net.jmp.demo.annotated.application.main;
  * SOFTWARE.
  */
 
-import eu.infomas.annotation.AnnotationDetector;
-
-import java.io.IOException;
-
-import java.lang.annotation.Annotation;
-
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
-import net.jmp.demo.annotated.application.annotations.Application;
+import net.jmp.demo.annotated.application.records.ScanResults;
 
 import org.slf4j.LoggerFactory;
 
@@ -52,47 +49,31 @@ final class ApplicationLocator {
         super();
     }
 
-    Optional<Class<?>> locateApplicationClass() {
-        this.logger.entry();
+    /* Every application class found by the scan, in the order they were found */
+    List<Class<?>> locateApplicationClasses(final ScanResults scanResults) {
+        this.logger.entry(scanResults);
 
-        Class<?> applicationClass = null;
-
-        try {
-            final var applicationClassNameWrapper = this.getApplicationClassName();
-
-            if (applicationClassNameWrapper.isPresent()) {
-                final var applicationClassName = applicationClassNameWrapper.get();
-                final var applicationClassWrapper = this.loadAndGetApplicationClass(applicationClassName);
-
-                if (applicationClassWrapper.isPresent())
-                    applicationClass = applicationClassWrapper.get();
-                else
-                    this.logger.error("Failed to load application class: {}", applicationClassName);
-            } else {
-                this.logger.warn("No annotated application class was found");
-            }
-        } catch (final IOException ioe) {
-            this.logger.catching(ioe);
-        }
-
-        this.logger.exit(applicationClass);
-
-        return Optional.ofNullable(applicationClass);
-    }
+        assert scanResults != null;
 
-    private Optional<String> getApplicationClassName() throws IOException {
-        this.logger.entry();
+        final var applicationClasses = new ArrayList<Class<?>>();
 
-        final var classReporter = new ClassReporter();
-        final var annotationDetector = new AnnotationDetector(classReporter);
+        for (final var applicationClassName : scanResults.applicationClassNames()) {
+            final var applicationClassWrapper = this.loadAndGetApplicationClass(applicationClassName);
 
-        annotationDetector.detect();
+            if (applicationClassWrapper.isPresent())
+                applicationClasses.add(applicationClassWrapper.get());
+            else
+                this.logger.error("Failed to load application class: {}", applicationClassName);
+        }
 
-        final var applicationClassName = classReporter.getApplicationClassName();
+        if (scanResults.applicationClassNames().isEmpty())
+            this.logger.warn("No annotated application class was found");
+        else if (applicationClasses.size() > 1)
+            this.logger.info("Found {} application classes", applicationClasses.size());
 
-        this.logger.exit(applicationClassName);
+        this.logger.exit(applicationClasses);
 
-        return Optional.ofNullable(applicationClassName);
+        return applicationClasses;
     }
 
     private Optional<Class<?>> loadAndGetApplicationClass(final String className) {
@@ -102,10 +83,12 @@ final class ApplicationLocator {
 
         Class<?> applicationClass = null;
 
-        // Loads the class
+        // Loads the class, preferring the context class loader of launchers that set one
+
+        final var contextClassLoader = Thread.currentThread().getContextClassLoader();
 
         try {
-            applicationClass = Class.forName(className);
+            applicationClass = Class.forName(className, true, contextClassLoader != null ? contextClassLoader : this.getClass().getClassLoader());
         } catch (final ClassNotFoundException cnfe) {
             this.logger.catching(cnfe);
         }
@@ -114,31 +97,4 @@ final class ApplicationLocator {
 
         return Optional.ofNullable(applicationClass);
     }
-
-    class ClassReporter implements AnnotationDetector.TypeReporter {
-        private String applicationClassName;
-
-        @SuppressWarnings("unchecked")
-        @Override
-        public Class<? extends Annotation>[] annotations() {
-            return new Class[]{Application.class};
-        }
-
-        @Override
-        public void reportTypeAnnotation(
-                final Class<? extends Annotation> annotation,
-                final String className
-        ) {
-            if (logger.isDebugEnabled()) {
-                logger.debug("Found application class: {}", className);
-                logger.debug("Annotated with         : {}", annotation.getName());
-            }
-
-            this.applicationClassName = className;
-        }
-
-        String getApplicationClassName() {
-            return this.applicationClassName;
-        }
-    }
 }
@@ -0,0 +1,160 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)CheckpointHooks.java        0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import java.util.Map;
+import java.util.Optional;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.LoggerFactory;
+
+import org.slf4j.ext.XLogger;
+
+/*
+ * Registers a CRaC resource for an application when the org.crac
+ * API or the jdk.crac module is present. The watcher of the
+ * configuration file is stopped before a checkpoint, and the
+ * @AppConfig properties are read again after a restore. The CRaC
+ * API is reached through reflection and a proxy, so it is not a
+ * dependency of the framework.
+ */
+final class CheckpointHooks implements InvocationHandler {
+    private static final String[] PACKAGE_NAMES = {"org.crac", "jdk.crac"};
+
+    /* The CRaC context holds its resources weakly */
+    private static final Map<ApplicationContext, Object> resources = new ConcurrentHashMap<>();
+
+    private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
+    private final ApplicationContext context;
+
+    private CheckpointHooks(final ApplicationContext context) {
+        super();
+
+        this.context = context;
+    }
+
+    /* Returns true if the hooks were registered */
+    static boolean register(final ApplicationContext context) {
+        assert context != null;
+
+        final var hooks = new CheckpointHooks(context);
+
+        return hooks.findPackageName().map(hooks::register).orElse(false);
+    }
+
+    static void unregister(final ApplicationContext context) {
+        resources.remove(context);
+    }
+
+    private Optional<String> findPackageName() {
+        for (final var packageName : PACKAGE_NAMES) {
+            try {
+                Class.forName(packageName + ".Core");
+
+                return Optional.of(packageName);
+            } catch (final ClassNotFoundException | LinkageError e) {
+                this.logger.trace("CRaC API not found in package: {}", packageName);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    private boolean register(final String packageName) {
+        this.logger.entry(packageName);
+
+        var registered = false;
+
+        try {
+            final var resourceClass = Class.forName(packageName + ".Resource");
+            final var contextClass = Class.forName(packageName + ".Context");
+            final var coreClass = Class.forName(packageName + ".Core");
+            final var globalContext = coreClass.getMethod("getGlobalContext").invoke(null);
+            final var resource = Proxy.newProxyInstance(resourceClass.getClassLoader(), new Class<?>[] {resourceClass}, this);
+
+            /* The global context is an implementation class; register through the public type */
+            contextClass.getMethod("register", resourceClass).invoke(globalContext, resource);
+
+            resources.put(this.context, resource);
+
+            registered = true;
+
+            this.logger.debug("Registered checkpoint hooks with {}", packageName);
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            this.logger.catching(e);
+        }
+
+        this.logger.exit(registered);
+
+        return registered;
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] arguments) throws Throwable {
+        return switch (method.getName()) {
+            case "beforeCheckpoint" -> {
+                this.context.run(this::beforeCheckpoint);
+
+                yield null;
+            }
+            case "afterRestore" -> {
+                this.context.run(this::afterRestore);
+
+                yield null;
+            }
+            case "equals" -> proxy == arguments[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "toString" -> "CheckpointHooks[" + this.context.getApplicationClass().getName() + "]";
+            default -> throw new UnsupportedOperationException(method.getName());
+        };
+    }
+
+    private void beforeCheckpoint() {
+        this.logger.entry();
+
+        new ApplicationConfigurator().suspendConfiguration();
+
+        this.logger.exit();
+    }
+
+    private void afterRestore() {
+        this.logger.entry();
+
+        new ApplicationConfigurator().restoreConfiguration(this.context.getApplicationClass());
+
+        this.logger.exit();
+    }
+}
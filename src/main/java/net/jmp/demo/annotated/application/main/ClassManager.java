@@ -1,12 +1,13 @@
 package net.jmp.demo.annotated.application.main;
 
 /*
+ * (#)ClassManager.java 0.7.0   10/18/2026
  * (#)ClassManager.java 0.6.0   03/12/2024
  * (#)ClassManager.java 0.5.0   03/07/2024
  * (#)ClassManager.java 0.4.0   03/06/2024
  *
  * @author    Jonathan Parker
- * @version   0.6.0
+ * @version   0.7.0
  * @since     0.4.0
  *
  * MIT License
@@ -32,320 +33,510 @@ package net.jmp.demo.annotated.application.main;
  * SOFTWARE.
  */
 
-import net.jmp.demo.annotated.application.annotations.ApplicationProperty;
+import java.lang.ref.WeakReference;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import java.util.stream.Stream;
+
 import net.jmp.demo.annotated.application.annotations.ManagedClass;
 
-import net.jmp.demo.annotated.application.annotations.SystemProperty;
-import net.jmp.demo.annotated.application.enumerations.PropertyDataType;
+import net.jmp.demo.annotated.application.enumerations.ApplicationPhase;
+import net.jmp.demo.annotated.application.enumerations.ManagedClassScope;
+import net.jmp.demo.annotated.application.enumerations.PropertyInjectionExceptionType;
 
-import net.jmp.demo.annotated.application.exceptions.ApplicationPropertyInjectionException;
 import net.jmp.demo.annotated.application.exceptions.PropertyInjectionException;
 
 import org.slf4j.LoggerFactory;
 
 import org.slf4j.ext.XLogger;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Modifier;
+public final class ClassManager {
+    static final String TRACE_PROPERTY = "annotated.application.trace";
 
-import java.util.Optional;
+    private static final XLogger logger = new XLogger(LoggerFactory.getLogger(ClassManager.class.getName()));
+
+    /* Read once so that the trace guards fold away when tracing is switched off */
+    private static final boolean TRACE_ENABLED = !"false".equalsIgnoreCase(System.getProperty(TRACE_PROPERTY, "true").strip());
+
+    private static volatile Executor executor = ForkJoinPool.commonPool();
 
-public final class ClassManager {
     private ClassManager() {
         super();
     }
 
+    private static boolean isTracing() {
+        return TRACE_ENABLED && logger.isTraceEnabled();
+    }
+
+    /*
+     * Returns an instance according to the scope of the managed class:
+     * a new instance for prototypes, the one instance for singletons,
+     * the current thread's instance for thread-local classes, or an
+     * idle instance from the pool for pooled classes.
+     */
     public static Optional<Object> newInstance(final Class<?> managedClass) throws PropertyInjectionException {
-        final var logger = new XLogger(LoggerFactory.getLogger(ClassManager.class.getName()));
+        if (isTracing())
+            logger.entry(managedClass);
 
-        logger.entry(managedClass);
+        final var classInstance = getInstance(getInjectionPlan(managedClass));
 
-        Object classInstance = null;
+        if (isTracing())
+            logger.exit(classInstance);
 
-        try {
-            final var classConstructor = managedClass.getDeclaredConstructor();
+        return Optional.ofNullable(classInstance);
+    }
+
+    public static <T> List<T> newInstances(final Class<T> managedClass, final int count) throws PropertyInjectionException {
+        if (count < 0)
+            throw new IllegalArgumentException("count is negative");
+
+        @SuppressWarnings("unchecked")
+        final var instances = (T[]) Array.newInstance(managedClass, count);
+
+        return List.of(newInstances(managedClass, instances));
+    }
+
+    /*
+     * Fills the array with instances obtained with one injection plan.
+     * Prototype instances are all constructed before any is injected.
+     * An IllegalStateException is thrown if an instance cannot be
+     * constructed.
+     */
+    public static <T> T[] newInstances(final Class<T> managedClass, final T[] instances) throws PropertyInjectionException {
+        if (isTracing())
+            logger.entry(managedClass, instances.length);
 
-            if (!Modifier.isPublic(classConstructor.getModifiers()))
-                classConstructor.setAccessible(true);
+        final var injectionPlan = getInjectionPlan(managedClass);
 
-            classInstance = classConstructor.newInstance();
-        } catch (IllegalAccessException | InstantiationException | InvocationTargetException |
-                 NoSuchMethodException e) {
-            logger.catching(e);
+        if (injectionPlan.getScope() == ManagedClassScope.PROTOTYPE) {
+            createInstances(injectionPlan, instances);
+        } else {
+            for (int i = 0; i < instances.length; i++)
+                instances[i] = managedClass.cast(getRequiredInstance(injectionPlan));
         }
 
-        if (classInstance != null)
-            inject(managedClass, classInstance);
+        if (isTracing())
+            logger.exit(instances.length);
+
+        return instances;
+    }
 
-        logger.exit(classInstance);
+    /* The instances are obtained lazily as the stream is consumed */
+    public static <T> Stream<T> streamInstances(final Class<T> managedClass, final long count) throws PropertyInjectionException {
+        if (count < 0)
+            throw new IllegalArgumentException("count is negative");
 
-        return Optional.ofNullable(classInstance);
+        final var context = ApplicationContext.getCurrent();
+        final var injectionPlan = getInjectionPlan(managedClass);
+
+        return Stream.generate(() -> context.call(() -> getRequiredInstanceOrThrow(managedClass, injectionPlan))).limit(count);
     }
 
-    private static void inject(final Class<?> managedClass, final Object managedClassInstance) throws PropertyInjectionException {
-        final var logger = new XLogger(LoggerFactory.getLogger(ClassManager.class.getName()));
+    private static <T> T getRequiredInstanceOrThrow(final Class<T> managedClass, final InjectionPlan injectionPlan) {
+        try {
+            return managedClass.cast(getRequiredInstance(injectionPlan));
+        } catch (final PropertyInjectionException pie) {
+            throw new IllegalStateException("Unable to inject an instance of class " + managedClass.getName(), pie);
+        }
+    }
 
-        assert managedClass != null;
-        assert managedClassInstance != null;
+    private static Object getInstance(final InjectionPlan injectionPlan) throws PropertyInjectionException {
+        return switch (injectionPlan.getScope()) {
+            case PROTOTYPE -> createInstance(injectionPlan);
+            case SINGLETON -> getScopedInstances(injectionPlan).getSingleton(() -> createInstance(injectionPlan));
+            case THREAD_LOCAL -> getScopedInstances(injectionPlan).getThreadInstance(() -> createInstance(injectionPlan));
+            case POOLED -> getScopedInstances(injectionPlan).borrow(() -> createInstance(injectionPlan));
+        };
+    }
 
-        logger.entry(managedClass, managedClassInstance);
+    private static Object getRequiredInstance(final InjectionPlan injectionPlan) throws PropertyInjectionException {
+        final var instance = getInstance(injectionPlan);
 
-        final var managedAnnotation = managedClass.getAnnotation(ManagedClass.class);
+        if (instance == null)
+            throw new IllegalStateException("Unable to create an instance of class " + injectionPlan.getManagedClass().getName());
 
-        if (managedAnnotation != null) {
-            if (injectAnnotatedFields(logger, managedClass, managedClassInstance))
-                logger.debug("Instance of class {} injected", managedClassInstance.getClass().getName());
-            else
-                logger.warn("Instance of class {} failed to be injected", managedClassInstance.getClass().getName());
+        return instance;
+    }
+
+    private static <T> void createInstances(final InjectionPlan injectionPlan, final T[] instances) throws PropertyInjectionException {
+        if (isTracing())
+            logger.entry(injectionPlan, instances.length);
+
+        final var managedClass = injectionPlan.getManagedClass();
+
+        if (!injectionPlan.isInstantiable())
+            throw new IllegalStateException("Unable to create an instance of class " + managedClass.getName());
+
+        final var metrics = FrameworkMetrics.getInstance();
+        final var componentType = instances.getClass().getComponentType();
+
+        var start = System.nanoTime();
+
+        try {
+            for (int i = 0; i < instances.length; i++) {
+                @SuppressWarnings("unchecked")
+                final var instance = (T) componentType.cast(injectionPlan.newInstance());
+
+                instances[i] = instance;
+
+                metrics.addInstanceCreated();
+            }
+        } catch (IllegalAccessException | InstantiationException | InvocationTargetException e) {
+            throw new IllegalStateException("Unable to create an instance of class " + managedClass.getName(), e);
+        } finally {
+            metrics.record(ApplicationPhase.CONSTRUCT, System.nanoTime() - start);
+        }
+
+        if (injectionPlan.isManaged()) {
+            start = System.nanoTime();
+
+            for (final var instance : instances)
+                injectionPlan.apply(instance);
+
+            metrics.record(ApplicationPhase.INJECT, System.nanoTime() - start);
+            metrics.addFieldsInjected((long) injectionPlan.getFieldCount() * instances.length);
+
+            if (ApplicationContext.getCurrent().isTrackingInstances()) {
+                for (final var instance : instances)
+                    track(injectionPlan, instance);
+            }
+
+            if (!injectionPlan.isComplete())
+                logger.warn("Instances of class {} failed to be injected", managedClass.getName());
         } else {
             logger.warn("Class {} is not annotated with @{}", managedClass.getName(), ManagedClass.class.getSimpleName());
         }
 
-        logger.exit();
+        if (isTracing())
+            logger.exit();
     }
 
-    private static boolean injectAnnotatedFields(final XLogger logger, final Class<?> managedClass, final Object managedClassInstance) throws PropertyInjectionException {
-        assert logger != null;
+    /*
+     * Returns a pooled instance to its pool once its fields have been
+     * injected again. The instance is dropped if the pool is full.
+     * Instances of classes that are not pooled, and instances that are
+     * not currently borrowed from the pool, are ignored.
+     */
+    public static void release(final Object managedClassInstance) throws PropertyInjectionException {
+        if (isTracing())
+            logger.entry(managedClassInstance);
 
-        logger.entry(managedClass, managedClassInstance);
+        if (managedClassInstance == null)
+            throw new IllegalArgumentException("managedClassInstance is null");
 
-        assert managedClass != null;
-        assert managedClassInstance != null;
+        final var injectionPlan = getInjectionPlan(managedClassInstance.getClass());
 
-        final var managedClassName = managedClass.getName();
-        final var annotatedFields = ApplicationConfigurator.getAnnotatedFields();
+        if (injectionPlan.getScope() == ManagedClassScope.POOLED) {
+            final var scopedInstances = getScopedInstances(injectionPlan);
 
-        boolean result = false;
+            if (scopedInstances.endBorrowing(managedClassInstance)) {
+                inject(injectionPlan, managedClassInstance);
 
-        for (final var annotatedField : annotatedFields) {
-            final var className = annotatedField.className();
+                if (!scopedInstances.release(managedClassInstance))
+                    logger.debug("Pool for class {} is full; instance dropped", injectionPlan.getManagedClass().getName());
+            } else {
+                logger.warn("Instance of class {} is not borrowed from its pool; release ignored", injectionPlan.getManagedClass().getName());
+            }
+        } else {
+            logger.debug("Class {} is not pooled; release ignored", injectionPlan.getManagedClass().getName());
+        }
 
-            if (className.equals(managedClassName)) {
-                final var fieldName = annotatedField.fieldName();
+        if (isTracing())
+            logger.exit();
+    }
 
-                logger.debug("Handling class '{}': field '{}'", className, fieldName);
+    private static Object createInstance(final InjectionPlan injectionPlan) throws PropertyInjectionException {
+        if (isTracing())
+            logger.entry(injectionPlan);
 
-                try {
-                    final var clazz = Class.forName(className);
-                    final var field = clazz.getDeclaredField(fieldName);
+        final var metrics = FrameworkMetrics.getInstance();
 
-                    if (field.isAnnotationPresent(ApplicationProperty.class)) {
-                        result = injectApplicationProperty(logger, managedClassInstance, field);
-                    } else if (field.isAnnotationPresent(SystemProperty.class)) {
-                        result = injectSystemProperty(logger, managedClassInstance, field);
-                    } else {
-                        throw new IllegalStateException("Field '" + fieldName + "' in class '" + className + "' is not annotated with " + ApplicationProperty.class.getName() + " or " + SystemProperty.class.getName());
-                    }
-                } catch (final ClassNotFoundException | NoSuchFieldException e) {
-                    logger.catching(e);
-                }
+        Object classInstance = null;
+
+        if (injectionPlan.isInstantiable()) {
+            final var start = System.nanoTime();
+
+            try {
+                classInstance = injectionPlan.newInstance();
+
+                metrics.addInstanceCreated();
+            } catch (IllegalAccessException | InstantiationException | InvocationTargetException e) {
+                logger.catching(e);
             }
+
+            metrics.record(ApplicationPhase.CONSTRUCT, System.nanoTime() - start);
         }
 
-        logger.exit(result);
+        if (classInstance != null) {
+            inject(injectionPlan, classInstance);
 
-        return result;
+            if (injectionPlan.isManaged())
+                track(injectionPlan, classInstance);
+        }
+
+        if (isTracing())
+            logger.exit(classInstance);
+
+        return classInstance;
     }
 
-    private static boolean injectApplicationProperty(final XLogger logger, final Object managedClassInstance, final Field field) throws PropertyInjectionException {
-        assert logger != null;
+    private static ScopedInstances getScopedInstances(final InjectionPlan injectionPlan) {
+        return ApplicationContext.getCurrent().getScopedInstances()
+                .computeIfAbsent(injectionPlan.getManagedClass(), key -> new ScopedInstances(injectionPlan.getPoolSize()));
+    }
 
-        logger.entry(managedClassInstance, field);
+    /* Forgets every singleton, thread-local and pooled instance */
+    static void clearScopedInstances() {
+        ApplicationContext.getCurrent().getScopedInstances().clear();
+    }
 
-        assert managedClassInstance != null;
-        assert field != null;
+    public static Executor getExecutor() {
+        return ClassManager.executor;
+    }
 
-        final var properties = ApplicationConfigurator.getProperties();
+    public static void setExecutor(final Executor executor) {
+        if (executor == null)
+            throw new IllegalArgumentException("executor is null");
 
-        boolean result = false;
+        ClassManager.executor = executor;
+    }
 
-        if (!Modifier.isPublic(field.getModifiers()))
-            field.setAccessible(true);
+    public static List<CompletableFuture<Optional<Object>>> newInstancesAsync(final Class<?>... managedClasses) {
+        return newInstancesAsync(ClassManager.executor, managedClasses);
+    }
 
-        final var applicationProperty = field.getAnnotation(ApplicationProperty.class);
+    /*
+     * Instances are created and injected in parallel on the executor.
+     * A class whose @ManagedClass names other requested classes in
+     * dependsOn is only created once they have been. The futures are
+     * returned in the order of the requested classes.
+     */
+    public static List<CompletableFuture<Optional<Object>>> newInstancesAsync(final Executor executor, final Class<?>... managedClasses) {
+        if (isTracing())
+            logger.entry(executor, managedClasses);
 
-        final var name = applicationProperty.name();
-        final var type = applicationProperty.type();
-        final var optional = applicationProperty.optional();
+        if (executor == null)
+            throw new IllegalArgumentException("executor is null");
 
-        if (properties.containsKey(name)) {
-            final var propertyValue = properties.getProperty(name);
+        final var requestedClasses = new HashSet<>(Arrays.asList(managedClasses));
+        final var futures = new HashMap<Class<?>, CompletableFuture<Optional<Object>>>();
 
-            if (propertyValue == null || propertyValue.isBlank()) {
-                if (!optional)
-                    logger.warn("Blank application property value found: {}", propertyValue);
-                else
-                    injectDefaultValue(
-                            logger,
-                            name,
-                            managedClassInstance,
-                            field,
-                            type);
-            }
+        for (final var managedClass : managedClasses)
+            scheduleInstance(executor, managedClass, requestedClasses, futures, new HashSet<>());
 
-            injectPropertyValue(
-                    logger,
-                    name,
-                    managedClassInstance,
-                    field,
-                    type,
-                    propertyValue);
+        final var result = new ArrayList<CompletableFuture<Optional<Object>>>(managedClasses.length);
 
-            result = true;
-        } else {
-            logger.warn("No application property defined for field annotation: {}", name);
-        }
+        for (final var managedClass : managedClasses)
+            result.add(futures.get(managedClass));
 
-        logger.exit(result);
+        if (isTracing())
+            logger.exit(result);
 
         return result;
     }
 
-    private static boolean injectSystemProperty(final XLogger logger, final Object managedClassInstance, final Field field) throws PropertyInjectionException {
-        assert logger != null;
+    private static CompletableFuture<Optional<Object>> scheduleInstance(
+            final Executor executor,
+            final Class<?> managedClass,
+            final Set<Class<?>> requestedClasses,
+            final Map<Class<?>, CompletableFuture<Optional<Object>>> futures,
+            final Set<Class<?>> scheduling) {
+        var future = futures.get(managedClass);
+
+        if (future == null) {
+            if (!scheduling.add(managedClass))
+                throw new IllegalArgumentException("Circular dependency involving managed class: " + managedClass.getName());
+
+            final var dependencies = new ArrayList<CompletableFuture<Optional<Object>>>();
+            final var managedAnnotation = managedClass.getAnnotation(ManagedClass.class);
+
+            if (managedAnnotation != null) {
+                for (final var dependency : managedAnnotation.dependsOn()) {
+                    if (requestedClasses.contains(dependency))
+                        dependencies.add(scheduleInstance(executor, dependency, requestedClasses, futures, scheduling));
+                }
+            }
 
-        logger.entry(managedClassInstance, field);
+            final var context = ApplicationContext.getCurrent();
 
-        assert managedClassInstance != null;
-        assert field != null;
+            future = CompletableFuture.allOf(dependencies.toArray(new CompletableFuture<?>[0]))
+                    .thenApplyAsync(ignored -> context.call(() -> newInstanceOrThrow(managedClass)), executor);
 
-        boolean result = false;
+            futures.put(managedClass, future);
+            scheduling.remove(managedClass);
+        }
 
-        if (!Modifier.isPublic(field.getModifiers()))
-            field.setAccessible(true);
+        return future;
+    }
 
-        final var systemProperty = field.getAnnotation(SystemProperty.class);
+    private static Optional<Object> newInstanceOrThrow(final Class<?> managedClass) {
+        try {
+            return newInstance(managedClass);
+        } catch (final PropertyInjectionException pie) {
+            throw new CompletionException(pie);
+        }
+    }
 
-        final var name = systemProperty.name();
-        final var type = systemProperty.type();
-        final var optional = systemProperty.optional();
+    /*
+     * Returns the cached plan of the class, building it on a miss. A
+     * plan built from a snapshot that a reload has since replaced is
+     * discarded and built again, so a plan cached concurrently with a
+     * reload never outlives it.
+     */
+    static InjectionPlan getInjectionPlan(final Class<?> managedClass) throws PropertyInjectionException {
+        assert managedClass != null;
 
-        final var propertyValue = System.getProperty(name);
+        final var context = ApplicationContext.getCurrent();
+        final var injectionPlans = context.getInjectionPlans();
 
-        if (propertyValue != null) {
-            if (propertyValue.isBlank()) {
-                if (!optional)
-                    logger.warn("Blank system property value found: {}", propertyValue);
-                else
-                    injectDefaultValue(
-                            logger,
-                            name,
-                            managedClassInstance,
-                            field,
-                            type);
-            }
+        var injectionPlan = injectionPlans.get(managedClass);
 
-            injectPropertyValue(
-                    logger,
-                    name,
-                    managedClassInstance,
-                    field,
-                    type,
-                    propertyValue);
+        while (injectionPlan == null || injectionPlan.isStale(context.getPropertySnapshot())) {
+            if (injectionPlan != null)
+                injectionPlans.remove(managedClass, injectionPlan);
 
-            result = true;
-        } else {
-            logger.warn("No system property defined for field annotation: {}", name);
+            FrameworkMetrics.getInstance().addReflectionMiss();
+
+            injectionPlan = new InjectionPlanner().plan(managedClass);
+
+            final var existingPlan = injectionPlans.putIfAbsent(managedClass, injectionPlan);
+
+            if (existingPlan != null)
+                injectionPlan = existingPlan;
         }
 
-        logger.exit(result);
+        return injectionPlan;
+    }
 
-        return result;
+    static void clearInjectionPlans() {
+        ApplicationContext.getCurrent().getInjectionPlans().clear();
     }
 
-    private static void injectDefaultValue(
-            final XLogger logger,
-            final String propertyName,
-            final Object instance,
-            final Field field,
-            final PropertyDataType dataType) throws PropertyInjectionException {
-        assert logger != null;
+    /*
+     * Live instances are tracked only while the configuration is watched.
+     * An instance injected from a plan that a reload replaced before the
+     * instance was tracked, and so missed by reinject, is injected again.
+     */
+    private static void track(final InjectionPlan injectionPlan, final Object managedClassInstance) throws PropertyInjectionException {
+        final var context = ApplicationContext.getCurrent();
+        final var managedClass = injectionPlan.getManagedClass();
+
+        if (context.isTrackingInstances()) {
+            final var instances = context.getLiveInstances().computeIfAbsent(managedClass, key -> Collections.synchronizedList(new ArrayList<>()));
+
+            synchronized (instances) {
+                instances.removeIf(reference -> reference.get() == null);
+                instances.add(new WeakReference<>(managedClassInstance));
+            }
 
-        logger.entry(instance, propertyName, field, dataType);
+            if (injectionPlan.isStale(context.getPropertySnapshot()))
+                getInjectionPlan(managedClass).apply(managedClassInstance);
+        }
+    }
 
-        assert propertyName != null;
-        assert instance != null;
-        assert field != null;
-        assert dataType != null;
+    /*
+     * Rebuilds the injection plans against the current properties and
+     * writes the fields bound to the given application properties into
+     * every live instance. Every plan is built before any field is
+     * written, so an invalid value leaves the instances untouched.
+     */
+    static void reinject(final Set<String> propertyNames) throws PropertyInjectionException {
+        if (isTracing())
+            logger.entry(propertyNames);
 
-        try {
-            switch (dataType) {
-                case STRING -> field.set(instance, "");
-                case LONG -> field.set(instance, 0L);
-                case INTEGER -> field.set(instance, 0);
-                case BOOLEAN -> field.set(instance, false);
-            }
-        } catch (final IllegalAccessException iae) {
-            final var exception = new ApplicationPropertyInjectionException("Unable to set field to default value");
-
-            exception.setFieldName(field.getName());
-            exception.setPropertyName(propertyName);
-            exception.setDataType(dataType);
-
-            switch (dataType) {
-                case STRING -> exception.setValue("");
-                case LONG -> exception.setValue("0");
-                case INTEGER -> exception.setValue("0");
-                case BOOLEAN -> exception.setValue("false");
+        final var liveInstances = ApplicationContext.getCurrent().getLiveInstances();
+
+        clearInjectionPlans();
+
+        final var changedInjectionPoints = new HashMap<Class<?>, List<InjectionPoint>>();
+
+        for (final var managedClass : liveInstances.keySet()) {
+            final var injectionPoints = new ArrayList<InjectionPoint>();
+
+            for (final var injectionPoint : getInjectionPlan(managedClass).getInjectionPoints()) {
+                if (injectionPoint.getSource() == PropertyInjectionExceptionType.APPLICATION &&
+                        propertyNames.contains(injectionPoint.getPropertyName()))
+                    injectionPoints.add(injectionPoint);
             }
 
-            throw exception;
+            if (!injectionPoints.isEmpty())
+                changedInjectionPoints.put(managedClass, injectionPoints);
         }
 
-        logger.exit();
-    }
+        var fieldsInjected = 0;
 
-    private static void injectPropertyValue(
-            final XLogger logger,
-            final String propertyName,
-            final Object instance,
-            final Field field,
-            final PropertyDataType dataType,
-            final String value) throws PropertyInjectionException {
-        assert logger != null;
+        for (final var entry : changedInjectionPoints.entrySet()) {
+            final var instances = liveInstances.get(entry.getKey());
 
-        logger.trace("entry with ({}, {}, {}, {}, {})", propertyName, instance, field, dataType, value);
+            synchronized (instances) {
+                instances.removeIf(reference -> reference.get() == null);
 
-        assert propertyName != null;
-        assert instance != null;
-        assert field != null;
-        assert dataType != null;
-        assert value != null;
+                for (final var reference : instances) {
+                    final var instance = reference.get();
 
-        try {
-            switch (dataType) {
-                case STRING -> field.set(instance, value);
-                case LONG -> field.set(instance, Long.parseLong(value));
-                case INTEGER -> field.set(instance, Integer.parseInt(value));
-                case BOOLEAN -> {
-                    if ("true".equalsIgnoreCase(value) || "yes".equalsIgnoreCase(value))
-                        field.set(instance, true);
-                    else if ("false".equalsIgnoreCase(value) || "no".equalsIgnoreCase(value))
-                        field.set(instance, false);
-                    else {
-                        final var exception = new ApplicationPropertyInjectionException("Invalid boolean expression supplied");
-
-                        exception.setFieldName(field.getName());
-                        exception.setPropertyName(propertyName);
-                        exception.setDataType(PropertyDataType.BOOLEAN);
-                        exception.setValue(value);
-
-                        throw exception;
+                    if (instance != null) {
+                        for (final var injectionPoint : entry.getValue()) {
+                            injectionPoint.inject(instance);
+
+                            fieldsInjected++;
+                        }
                     }
                 }
             }
-        } catch (final IllegalAccessException iae) {
-            final var exception = new ApplicationPropertyInjectionException("Unable to set field");
+        }
+
+        FrameworkMetrics.getInstance().addFieldsInjected(fieldsInjected);
 
-            exception.setFieldName(field.getName());
-            exception.setPropertyName(propertyName);
-            exception.setDataType(dataType);
-            exception.setValue(value);
+        logger.debug("Re-injected {} field(s)", fieldsInjected);
+
+        if (isTracing())
+            logger.exit();
+    }
+
+    private static void inject(final InjectionPlan injectionPlan, final Object managedClassInstance) throws PropertyInjectionException {
+        assert injectionPlan != null;
+        assert managedClassInstance != null;
 
-            throw exception;
+        if (isTracing())
+            logger.entry(injectionPlan, managedClassInstance);
+
+        if (injectionPlan.isManaged()) {
+            final var metrics = FrameworkMetrics.getInstance();
+            final var start = System.nanoTime();
+
+            injectionPlan.apply(managedClassInstance);
+
+            metrics.record(ApplicationPhase.INJECT, System.nanoTime() - start);
+            metrics.addFieldsInjected(injectionPlan.getFieldCount());
+
+            if (injectionPlan.isComplete()) {
+                if (logger.isDebugEnabled())
+                    logger.debug("Instance of class {} injected", managedClassInstance.getClass().getName());
+            } else {
+                logger.warn("Instance of class {} failed to be injected", managedClassInstance.getClass().getName());
+            }
+        } else {
+            logger.warn("Class {} is not annotated with @{}", injectionPlan.getManagedClass().getName(), ManagedClass.class.getSimpleName());
         }
 
-        logger.exit();
+        if (isTracing())
+            logger.exit();
     }
 }
@@ -0,0 +1,159 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)ConfigurationWatcher.java   0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.LoggerFactory;
+
+import org.slf4j.ext.XLogger;
+
+/*
+ * Watches the directories of the configuration files on a daemon
+ * thread and reloads the configuration when any of them changes.
+ * Events arriving within a short settling period are coalesced
+ * so that an editor's save results in a single reload. A reload
+ * that fails, for instance on a malformed file, is logged and the
+ * watch continues.
+ */
+final class ConfigurationWatcher implements Runnable, AutoCloseable {
+    private static final long SETTLE_MILLIS = 100;
+
+    private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
+    private final ApplicationContext context;
+    private final List<String> configFileNames;
+    private final Set<Path> configFiles = new HashSet<>();
+    private final WatchService watchService;
+    private final Thread thread;
+
+    private ConfigurationWatcher(final ApplicationContext context, final List<String> configFileNames) throws IOException {
+        super();
+
+        this.context = context;
+        this.configFileNames = List.copyOf(configFileNames);
+        this.watchService = FileSystems.getDefault().newWatchService();
+
+        final var directories = new HashSet<Path>();
+
+        for (final var configFileName : configFileNames) {
+            final var configFile = Path.of(configFileName).toAbsolutePath();
+
+            this.configFiles.add(configFile);
+
+            if (directories.add(configFile.getParent())) {
+                configFile.getParent().register(
+                        this.watchService,
+                        StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY
+                );
+            }
+        }
+
+        this.thread = Thread.ofPlatform()
+                .daemon()
+                .name("configuration-watcher")
+                .unstarted(this);
+    }
+
+    static ConfigurationWatcher start(final ApplicationContext context, final List<String> configFileNames) throws IOException {
+        assert context != null;
+        assert configFileNames != null;
+
+        final var configurationWatcher = new ConfigurationWatcher(context, configFileNames);
+
+        configurationWatcher.thread.start();
+
+        return configurationWatcher;
+    }
+
+    @Override
+    public void run() {
+        this.logger.entry();
+
+        this.logger.debug("Watching configuration files: {}", this.configFileNames);
+
+        try {
+            while (true) {
+                WatchKey watchKey = this.watchService.take();
+
+                var changed = false;
+
+                do {
+                    final var directory = (Path) watchKey.watchable();
+
+                    for (final var event : watchKey.pollEvents()) {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW || this.configFiles.contains(directory.resolve((Path) event.context())))
+                            changed = true;
+                    }
+
+                    watchKey.reset();
+                } while ((watchKey = this.watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null);
+
+                if (changed)
+                    this.reload();
+            }
+        } catch (final InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (final ClosedWatchServiceException cwse) {
+            this.logger.debug("Stopped watching configuration files: {}", this.configFileNames);
+        }
+
+        this.logger.exit();
+    }
+
+    /* A failed reload keeps the previous properties and the watch */
+    private void reload() {
+        try {
+            this.context.run(() -> new ApplicationConfigurator().reloadConfiguration());
+        } catch (final RuntimeException re) {
+            this.logger.catching(re);
+            this.logger.error("Keeping the previous application properties; the reload failed: {}", re.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.watchService.close();
+    }
+}
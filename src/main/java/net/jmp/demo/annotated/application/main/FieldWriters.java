@@ -0,0 +1,151 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)FieldWriters.java           0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InaccessibleObjectException;
+import java.lang.reflect.Modifier;
+
+import net.jmp.demo.annotated.application.enumerations.FieldInjectionType;
+
+final class FieldWriters {
+    private FieldWriters() {
+        super();
+    }
+
+    static FieldWriter create(final FieldInjectionType injectionType, final Field field, final Object value) throws IllegalAccessException {
+        assert injectionType != null;
+        assert field != null;
+
+        return switch (injectionType) {
+            case METHOD_HANDLE -> methodHandleWriter(field, value);
+            case REFLECTION -> reflectiveWriter(field, value);
+        };
+    }
+
+    static FieldWriter reflectiveWriter(final Field field, final Object value) {
+        assert field != null;
+
+        if (!Modifier.isPublic(field.getModifiers()))
+            field.setAccessible(true);
+
+        if (isArray(value))
+            return instance -> field.set(instance, copyValue(value));
+
+        return instance -> field.set(instance, value);
+    }
+
+    /*
+     * Array values are parsed once per plan, so each instance is
+     * given its own copy; other values are immutable and shared.
+     */
+    static Object copyValue(final Object value) {
+        return switch (value) {
+            case int[] ints -> ints.clone();
+            case long[] longs -> longs.clone();
+            case Object[] objects -> objects.clone();
+            case null, default -> value;
+        };
+    }
+
+    static boolean isArray(final Object value) {
+        return value != null && value.getClass().isArray();
+    }
+
+    /*
+     * The setter is adapted once to an exact (Object, primitive)void
+     * type so that the value is written without boxing and the call
+     * can be made with invokeExact. A final field is made accessible
+     * first, as unreflectSetter otherwise refuses to write it.
+     */
+    static FieldWriter methodHandleWriter(final Field field, final Object value) throws IllegalAccessException {
+        assert field != null;
+
+        if (Modifier.isFinal(field.getModifiers())) {
+            try {
+                field.setAccessible(true);
+            } catch (final InaccessibleObjectException ioe) {
+                throw new IllegalAccessException(ioe.getMessage());
+            }
+        }
+
+        final var declaringClass = field.getDeclaringClass();
+        final var lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+        final var setter = lookup.unreflectSetter(field);
+        final var fieldType = field.getType();
+
+        if (fieldType == int.class && value instanceof Integer intValue) {
+            final MethodHandle intSetter = setter.asType(MethodType.methodType(void.class, Object.class, int.class));
+            final int primitiveValue = intValue;
+
+            return instance -> {
+                intSetter.invokeExact(instance, primitiveValue);
+            };
+        } else if (fieldType == long.class && value instanceof Long longValue) {
+            final MethodHandle longSetter = setter.asType(MethodType.methodType(void.class, Object.class, long.class));
+            final long primitiveValue = longValue;
+
+            return instance -> {
+                longSetter.invokeExact(instance, primitiveValue);
+            };
+        } else if (fieldType == boolean.class && value instanceof Boolean booleanValue) {
+            final MethodHandle booleanSetter = setter.asType(MethodType.methodType(void.class, Object.class, boolean.class));
+            final boolean primitiveValue = booleanValue;
+
+            return instance -> {
+                booleanSetter.invokeExact(instance, primitiveValue);
+            };
+        } else if (fieldType == double.class && value instanceof Double doubleValue) {
+            final MethodHandle doubleSetter = setter.asType(MethodType.methodType(void.class, Object.class, double.class));
+            final double primitiveValue = doubleValue;
+
+            return instance -> {
+                doubleSetter.invokeExact(instance, primitiveValue);
+            };
+        } else if (isArray(value)) {
+            final MethodHandle arraySetter = setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+
+            return instance -> {
+                arraySetter.invokeExact(instance, copyValue(value));
+            };
+        } else {
+            final MethodHandle objectSetter = setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+
+            return instance -> {
+                objectSetter.invokeExact(instance, value);
+            };
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)FrameworkMetrics.java       0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.management.ManagementFactory;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import net.jmp.demo.annotated.application.enumerations.ApplicationPhase;
+
+import net.jmp.demo.annotated.application.interfaces.FrameworkMetricsMXBean;
+
+import org.slf4j.LoggerFactory;
+
+import org.slf4j.ext.XLogger;
+
+final class FrameworkMetrics implements FrameworkMetricsMXBean {
+    static final String METRICS_PROPERTY = "annotated.application.metrics";
+    static final String OBJECT_NAME = "net.jmp.demo.annotated.application:type=FrameworkMetrics";
+
+    /* Read once so that a disabled check folds away in the hot path */
+    static final boolean ENABLED = Boolean.parseBoolean(System.getProperty(METRICS_PROPERTY, "true"));
+
+    private static final FrameworkMetrics instance = new FrameworkMetrics();
+
+    private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
+
+    private final Map<ApplicationPhase, LongAdder> phaseNanos = new EnumMap<>(ApplicationPhase.class);
+    private final Map<ApplicationPhase, LongAdder> phaseCounts = new EnumMap<>(ApplicationPhase.class);
+    private final LongAdder classesScanned = new LongAdder();
+    private final LongAdder annotationsFound = new LongAdder();
+    private final LongAdder instancesCreated = new LongAdder();
+    private final LongAdder fieldsInjected = new LongAdder();
+    private final LongAdder reflectionMisses = new LongAdder();
+
+    /* Only the mapped scan engine counts classes; the detector and the index do not */
+    private volatile boolean classesCounted;
+
+    private FrameworkMetrics() {
+        super();
+
+        for (final var phase : ApplicationPhase.values()) {
+            this.phaseNanos.put(phase, new LongAdder());
+            this.phaseCounts.put(phase, new LongAdder());
+        }
+    }
+
+    static FrameworkMetrics getInstance() {
+        return FrameworkMetrics.instance;
+    }
+
+    void register() {
+        this.logger.entry();
+
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+        } catch (final InstanceAlreadyExistsException iaee) {
+            this.logger.debug("Framework metrics already registered: {}", OBJECT_NAME);
+        } catch (final JMException jme) {
+            this.logger.catching(jme);
+        }
+
+        this.logger.exit();
+    }
+
+    void record(final ApplicationPhase phase, final long nanos) {
+        if (ENABLED) {
+            this.phaseNanos.get(phase).add(nanos);
+            this.phaseCounts.get(phase).increment();
+        }
+    }
+
+    void addClassesScanned(final long count) {
+        if (ENABLED) {
+            this.classesScanned.add(count);
+            this.classesCounted = true;
+        }
+    }
+
+    void addAnnotationsFound(final long count) {
+        if (ENABLED)
+            this.annotationsFound.add(count);
+    }
+
+    void addInstanceCreated() {
+        if (ENABLED)
+            this.instancesCreated.increment();
+    }
+
+    void addFieldsInjected(final long count) {
+        if (ENABLED)
+            this.fieldsInjected.add(count);
+    }
+
+    void addReflectionMiss() {
+        if (ENABLED)
+            this.reflectionMisses.increment();
+    }
+
+    @Override
+    public Map<String, Long> getPhaseNanos() {
+        return this.toMap(this.phaseNanos);
+    }
+
+    @Override
+    public Map<String, Long> getPhaseCounts() {
+        return this.toMap(this.phaseCounts);
+    }
+
+    @Override
+    public long getClassesScanned() {
+        return this.classesCounted ? this.classesScanned.sum() : -1;
+    }
+
+    @Override
+    public long getAnnotationsFound() {
+        return this.annotationsFound.sum();
+    }
+
+    @Override
+    public long getInstancesCreated() {
+        return this.instancesCreated.sum();
+    }
+
+    @Override
+    public long getFieldsInjected() {
+        return this.fieldsInjected.sum();
+    }
+
+    @Override
+    public long getReflectionMisses() {
+        return this.reflectionMisses.sum();
+    }
+
+    @Override
+    public String getSummary() {
+        final var summary = new StringBuilder();
+
+        for (final var phase : ApplicationPhase.values()) {
+            summary.append(phase.name().toLowerCase())
+                    .append(' ')
+                    .append(String.format("%.3f", this.phaseNanos.get(phase).sum() / 1_000_000.0))
+                    .append(" ms, ");
+        }
+
+        final var classesScanned = this.getClassesScanned();
+
+        summary.append(classesScanned < 0 ? "n/a" : String.valueOf(classesScanned)).append(" classes scanned, ")
+                .append(this.getAnnotationsFound()).append(" annotations found, ")
+                .append(this.getInstancesCreated()).append(" instances created, ")
+                .append(this.getFieldsInjected()).append(" fields injected, ")
+                .append(this.getReflectionMisses()).append(" reflection misses");
+
+        return summary.toString();
+    }
+
+    @Override
+    public void reset() {
+        this.phaseNanos.values().forEach(LongAdder::reset);
+        this.phaseCounts.values().forEach(LongAdder::reset);
+        this.classesScanned.reset();
+        this.classesCounted = false;
+        this.annotationsFound.reset();
+        this.instancesCreated.reset();
+        this.fieldsInjected.reset();
+        this.reflectionMisses.reset();
+    }
+
+    private Map<String, Long> toMap(final Map<ApplicationPhase, LongAdder> adders) {
+        final var map = new LinkedHashMap<String, Long>();
+
+        adders.forEach((phase, adder) -> map.put(phase.name(), adder.sum()));
+
+        return map;
+    }
+}
@@ -0,0 +1,160 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)InjectionPlan.java          0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+import java.util.Arrays;
+import java.util.List;
+
+import net.jmp.demo.annotated.application.enumerations.ManagedClassScope;
+
+import net.jmp.demo.annotated.application.exceptions.PropertyInjectionException;
+
+import net.jmp.demo.annotated.application.interfaces.Injector;
+
+final class InjectionPlan {
+    private final Class<?> managedClass;
+    private final boolean managed;
+    private final ManagedClassScope scope;
+    private final int poolSize;
+    private final Constructor<?> constructor;
+    private final InjectionPoint[] injectionPoints;
+    private final boolean complete;
+    private final Injector<Object> injector;
+    private final Object[] injectorValues;
+    private final boolean copyInjectorValues;
+    private final PropertySnapshot propertySnapshot;
+
+    InjectionPlan(
+            final Class<?> managedClass,
+            final boolean managed,
+            final ManagedClassScope scope,
+            final int poolSize,
+            final Constructor<?> constructor,
+            final List<InjectionPoint> injectionPoints,
+            final boolean complete,
+            final Injector<Object> injector,
+            final Object[] injectorValues,
+            final PropertySnapshot propertySnapshot
+    ) {
+        super();
+
+        this.managedClass = managedClass;
+        this.managed = managed;
+        this.scope = scope;
+        this.poolSize = poolSize;
+        this.constructor = constructor;
+        this.injectionPoints = injectionPoints.toArray(new InjectionPoint[0]);
+        this.complete = complete;
+        this.injector = injector;
+        this.injectorValues = injectorValues;
+        this.copyInjectorValues = injectorValues != null && Arrays.stream(injectorValues).anyMatch(FieldWriters::isArray);
+        this.propertySnapshot = propertySnapshot;
+    }
+
+    Class<?> getManagedClass() {
+        return this.managedClass;
+    }
+
+    /* True if the class is annotated with @ManagedClass */
+    boolean isManaged() {
+        return this.managed;
+    }
+
+    ManagedClassScope getScope() {
+        return this.scope;
+    }
+
+    int getPoolSize() {
+        return this.poolSize;
+    }
+
+    boolean isInstantiable() {
+        return this.injector != null || this.constructor != null;
+    }
+
+    /* True if a generated injector replaces reflection */
+    boolean isGenerated() {
+        return this.injector != null;
+    }
+
+    List<InjectionPoint> getInjectionPoints() {
+        return List.of(this.injectionPoints);
+    }
+
+    int getFieldCount() {
+        return this.injector != null ? this.injectorValues.length : this.injectionPoints.length;
+    }
+
+    /* True if every annotated field resolved to a value */
+    boolean isComplete() {
+        return this.complete;
+    }
+
+    /* True if the plan was built from a snapshot other than the given one */
+    boolean isStale(final PropertySnapshot currentSnapshot) {
+        return this.propertySnapshot != currentSnapshot;
+    }
+
+    Object newInstance() throws IllegalAccessException, InstantiationException, InvocationTargetException {
+        assert this.isInstantiable();
+
+        if (this.injector != null)
+            return this.injector.newInstance();
+
+        return this.constructor.newInstance();
+    }
+
+    void apply(final Object instance) throws PropertyInjectionException {
+        if (this.injector != null) {
+            this.injector.inject(instance, this.copyInjectorValues ? this.copyInjectorValues() : this.injectorValues);
+        } else {
+            for (final var injectionPoint : this.injectionPoints)
+                injectionPoint.inject(instance);
+        }
+    }
+
+    private Object[] copyInjectorValues() {
+        final var values = new Object[this.injectorValues.length];
+
+        for (int i = 0; i < values.length; i++)
+            values[i] = FieldWriters.copyValue(this.injectorValues[i]);
+
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        return "InjectionPlan[" + this.managedClass.getName() + ", " + this.injectionPoints.length + " field(s)]";
+    }
+}
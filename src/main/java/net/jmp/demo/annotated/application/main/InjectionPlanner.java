@@ -0,0 +1,564 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)InjectionPlanner.java       0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+
+import java.util.function.Supplier;
+
+import net.jmp.demo.annotated.application.annotations.ApplicationProperty;
+import net.jmp.demo.annotated.application.annotations.ManagedClass;
+import net.jmp.demo.annotated.application.annotations.SystemProperty;
+
+import net.jmp.demo.annotated.application.enumerations.FieldInjectionType;
+import net.jmp.demo.annotated.application.enumerations.ManagedClassScope;
+import net.jmp.demo.annotated.application.enumerations.PropertyDataType;
+import net.jmp.demo.annotated.application.enumerations.PropertyInjectionExceptionType;
+
+import net.jmp.demo.annotated.application.exceptions.PropertyInjectionException;
+
+import net.jmp.demo.annotated.application.interfaces.Injector;
+
+import net.jmp.demo.annotated.application.processors.InjectorGenerator;
+
+import org.slf4j.LoggerFactory;
+
+import org.slf4j.ext.XLogger;
+
+final class InjectionPlanner {
+    static final String FIELD_INJECTION_PROPERTY = "annotated.application.fieldInjection";
+
+    private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
+    private final FieldInjectionType fieldInjectionType;
+
+    InjectionPlanner() {
+        super();
+
+        this.fieldInjectionType = this.getFieldInjectionType();
+    }
+
+    private FieldInjectionType getFieldInjectionType() {
+        final var value = System.getProperty(FIELD_INJECTION_PROPERTY, FieldInjectionType.METHOD_HANDLE.name());
+
+        try {
+            return FieldInjectionType.valueOf(value.strip().toUpperCase());
+        } catch (final IllegalArgumentException iae) {
+            this.logger.warn("Unrecognized {}: {}", FIELD_INJECTION_PROPERTY, value);
+
+            return FieldInjectionType.METHOD_HANDLE;
+        }
+    }
+
+    InjectionPlan plan(final Class<?> managedClass) throws PropertyInjectionException {
+        this.logger.entry(managedClass);
+
+        assert managedClass != null;
+
+        final var propertySnapshot = ApplicationContext.getCurrent().getPropertySnapshot();
+        final var managed = managedClass.isAnnotationPresent(ManagedClass.class);
+        final var injectionPoints = new ArrayList<InjectionPoint>();
+
+        boolean complete = true;
+
+        if (managed) {
+            final var annotatedFieldIndex = ApplicationConfigurator.getAnnotatedFieldIndex();
+
+            /* Inherited fields are injected too; a shadowed field is a distinct field */
+
+            for (Class<?> declaringClass = managedClass; declaringClass != null && declaringClass != Object.class; declaringClass = declaringClass.getSuperclass()) {
+                for (final var fieldName : annotatedFieldIndex.getFieldNames(declaringClass.getName())) {
+                    final var injectionPoint = this.planField(declaringClass, fieldName);
+
+                    if (injectionPoint.isPresent())
+                        injectionPoints.add(injectionPoint.get());
+                    else
+                        complete = false;
+                }
+            }
+        }
+
+        Injector<Object> injector = null;
+        Object[] injectorValues = null;
+
+        if (managed && managedClass.getAnnotation(ManagedClass.class).generateInjector()) {
+            injector = this.loadInjector(managedClass).orElse(null);
+
+            if (injector != null) {
+                if (complete) {
+                    injectorValues = this.getInjectorValues(injector, injectionPoints);
+                } else {
+                    this.logger.warn("Generated injector not used for class {}; not every field was resolved", managedClass.getName());
+
+                    injector = null;
+                }
+            }
+        }
+
+        final var managedAnnotation = managedClass.getAnnotation(ManagedClass.class);
+        final var injectionPlan = new InjectionPlan(
+                managedClass,
+                managed,
+                managed ? managedAnnotation.scope() : ManagedClassScope.PROTOTYPE,
+                managed ? managedAnnotation.poolSize() : 0,
+                injector == null ? this.getConstructor(managedClass) : null,
+                injectionPoints,
+                complete,
+                injector,
+                injectorValues,
+                propertySnapshot
+        );
+
+        this.logger.exit(injectionPlan);
+
+        return injectionPlan;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Optional<Injector<Object>> loadInjector(final Class<?> managedClass) {
+        this.logger.entry(managedClass);
+
+        assert managedClass != null;
+
+        final var injectorClassName = InjectorGenerator.getInjectorClassName(managedClass.getName());
+
+        Injector<Object> injector = null;
+
+        try {
+            final var injectorClass = Class.forName(injectorClassName, true, managedClass.getClassLoader());
+
+            injector = (Injector<Object>) injectorClass.getDeclaredConstructor().newInstance();
+
+            this.logger.debug("Using generated injector: {}", injectorClassName);
+        } catch (final ClassNotFoundException cnfe) {
+            this.logger.warn("No generated injector found for class {}: {}", managedClass.getName(), injectorClassName);
+        } catch (final ReflectiveOperationException | ClassCastException e) {
+            this.logger.catching(e);
+        }
+
+        this.logger.exit(injector);
+
+        return Optional.ofNullable(injector);
+    }
+
+    private Object[] getInjectorValues(final Injector<Object> injector, final List<InjectionPoint> injectionPoints) {
+        final var valuesByFieldName = new HashMap<String, Object>();
+
+        for (final var injectionPoint : injectionPoints) {
+            final var field = injectionPoint.getField();
+
+            valuesByFieldName.put(field.getDeclaringClass().getName() + '.' + field.getName(), injectionPoint.getValue());
+        }
+
+        final var fieldNames = injector.getFieldNames();
+        final var values = new Object[fieldNames.length];
+
+        for (int i = 0; i < fieldNames.length; i++)
+            values[i] = valuesByFieldName.get(fieldNames[i]);
+
+        return values;
+    }
+
+    private Constructor<?> getConstructor(final Class<?> managedClass) {
+        this.logger.entry(managedClass);
+
+        assert managedClass != null;
+
+        Constructor<?> constructor = null;
+
+        try {
+            constructor = managedClass.getDeclaredConstructor();
+
+            if (!Modifier.isPublic(constructor.getModifiers()))
+                constructor.setAccessible(true);
+        } catch (final NoSuchMethodException nsme) {
+            this.logger.catching(nsme);
+        }
+
+        this.logger.exit(constructor);
+
+        return constructor;
+    }
+
+    private Optional<InjectionPoint> planField(final Class<?> managedClass, final String fieldName) throws PropertyInjectionException {
+        this.logger.entry(managedClass, fieldName);
+
+        assert managedClass != null;
+        assert fieldName != null;
+
+        this.logger.debug("Handling class '{}': field '{}'", managedClass.getName(), fieldName);
+
+        Optional<InjectionPoint> injectionPoint = Optional.empty();
+
+        try {
+            final var field = managedClass.getDeclaredField(fieldName);
+
+            if (field.isAnnotationPresent(ApplicationProperty.class)) {
+                injectionPoint = this.planApplicationProperty(field);
+            } else if (field.isAnnotationPresent(SystemProperty.class)) {
+                injectionPoint = this.planSystemProperty(field);
+            } else {
+                throw new IllegalStateException("Field '" + fieldName + "' in class '" + managedClass.getName() + "' is not annotated with " + ApplicationProperty.class.getName() + " or " + SystemProperty.class.getName());
+            }
+        } catch (final NoSuchFieldException nsfe) {
+            this.logger.catching(nsfe);
+        }
+
+        this.logger.exit(injectionPoint);
+
+        return injectionPoint;
+    }
+
+    private Optional<InjectionPoint> planApplicationProperty(final Field field) throws PropertyInjectionException {
+        this.logger.entry(field);
+
+        assert field != null;
+
+        final var context = ApplicationContext.getCurrent();
+        final var propertySnapshot = context.getPropertySnapshot();
+        final var applicationProperty = field.getAnnotation(ApplicationProperty.class);
+
+        final var name = applicationProperty.name();
+        final var type = applicationProperty.type();
+        final var optional = applicationProperty.optional();
+
+        if (field.getType() == Supplier.class) {
+            final var injectionPoint = this.createLazyInjectionPoint(
+                    PropertyInjectionExceptionType.APPLICATION,
+                    field,
+                    name,
+                    type,
+                    optional,
+                    () -> context.getPropertySnapshot().get(name));
+
+            this.logger.exit(injectionPoint);
+
+            return Optional.of(injectionPoint);
+        }
+
+        final var propertyValue = propertySnapshot.get(name);
+
+        InjectionPoint injectionPoint = null;
+
+        if (propertyValue.isPresent()) {
+            injectionPoint = this.createInjectionPoint(
+                    PropertyInjectionExceptionType.APPLICATION,
+                    field,
+                    name,
+                    type,
+                    optional,
+                    propertyValue.get());
+        } else {
+            this.logger.warn("No application property defined for field annotation: {}", name);
+        }
+
+        this.logger.exit(injectionPoint);
+
+        return Optional.ofNullable(injectionPoint);
+    }
+
+    private Optional<InjectionPoint> planSystemProperty(final Field field) throws PropertyInjectionException {
+        this.logger.entry(field);
+
+        assert field != null;
+
+        final var context = ApplicationContext.getCurrent();
+        final var systemProperty = field.getAnnotation(SystemProperty.class);
+
+        final var name = systemProperty.name();
+        final var type = systemProperty.type();
+        final var optional = systemProperty.optional();
+
+        if (field.getType() == Supplier.class) {
+            final var injectionPoint = this.createLazyInjectionPoint(
+                    PropertyInjectionExceptionType.SYSTEM,
+                    field,
+                    name,
+                    type,
+                    optional,
+                    () -> getSystemProperty(context, name));
+
+            this.logger.exit(injectionPoint);
+
+            return Optional.of(injectionPoint);
+        }
+
+        final var propertyValue = getSystemProperty(context, name);
+
+        InjectionPoint injectionPoint = null;
+
+        if (propertyValue.isPresent()) {
+            injectionPoint = this.createInjectionPoint(
+                    PropertyInjectionExceptionType.SYSTEM,
+                    field,
+                    name,
+                    type,
+                    optional,
+                    propertyValue.get());
+        } else {
+            this.logger.warn("No system property defined for field annotation: {}", name);
+        }
+
+        this.logger.exit(injectionPoint);
+
+        return Optional.ofNullable(injectionPoint);
+    }
+
+    /* Resolved through the context's property sources when it has them, otherwise from the JVM */
+    private static Optional<PropertyValue> getSystemProperty(final ApplicationContext context, final String name) {
+        final var propertySources = context.getPropertySources();
+        final var value = propertySources != null ? propertySources.getSystemProperty(name) : System.getProperty(name);
+
+        return Optional.ofNullable(value).map(PropertyValue::new);
+    }
+
+    private InjectionPoint createInjectionPoint(
+            final PropertyInjectionExceptionType source,
+            final Field field,
+            final String propertyName,
+            final PropertyDataType dataType,
+            final boolean optional,
+            final PropertyValue propertyValue) throws PropertyInjectionException {
+        this.logger.entry(source, field, propertyName, dataType, optional, propertyValue);
+
+        assert source != null;
+        assert field != null;
+        assert propertyName != null;
+        assert dataType != null;
+        assert propertyValue != null;
+
+        final var value = this.convert(source, field, propertyName, dataType, optional, propertyValue);
+
+        final var injectionPoint = new InjectionPoint(
+                source,
+                field,
+                propertyName,
+                dataType,
+                value,
+                this.createFieldWriter(field, value));
+
+        this.logger.exit(injectionPoint);
+
+        return injectionPoint;
+    }
+
+    /* The property is looked up and converted by the supplier on its first use */
+    private InjectionPoint createLazyInjectionPoint(
+            final PropertyInjectionExceptionType source,
+            final Field field,
+            final String propertyName,
+            final PropertyDataType dataType,
+            final boolean optional,
+            final Supplier<Optional<PropertyValue>> lookup) {
+        this.logger.entry(source, field, propertyName, dataType, optional, lookup);
+
+        this.checkSupplierType(field, dataType);
+
+        final var lazyProperty = new LazyProperty(propertyName, () -> {
+            final var propertyValue = lookup.get();
+
+            if (propertyValue.isPresent())
+                return this.convert(source, field, propertyName, dataType, optional, propertyValue.get());
+
+            if (optional)
+                return this.getDefaultValue(dataType);
+
+            throw InjectionPoint.newException(source, "No property defined", field, propertyName, dataType, null);
+        });
+
+        final var injectionPoint = new InjectionPoint(
+                source,
+                field,
+                propertyName,
+                dataType,
+                lazyProperty,
+                this.createFieldWriter(field, lazyProperty));
+
+        this.logger.exit(injectionPoint);
+
+        return injectionPoint;
+    }
+
+    private void checkSupplierType(final Field field, final PropertyDataType dataType) {
+        if (field.getGenericType() instanceof ParameterizedType parameterizedType &&
+                parameterizedType.getActualTypeArguments()[0] instanceof Class<?> suppliedType &&
+                dataType != PropertyDataType.ENUM &&
+                !suppliedType.isInstance(this.getDefaultValue(dataType)))
+            this.logger.warn("Field '{}' supplies {} but its property is of type {}", field.getName(), suppliedType.getName(), dataType);
+    }
+
+    private Object convert(
+            final PropertyInjectionExceptionType source,
+            final Field field,
+            final String propertyName,
+            final PropertyDataType dataType,
+            final boolean optional,
+            final PropertyValue propertyValue) throws PropertyInjectionException {
+        final Object value;
+
+        if (propertyValue.isBlank()) {
+            if (optional) {
+                value = this.getDefaultValue(dataType);
+            } else {
+                this.logger.warn("Blank {} property value found: {}", source.name().toLowerCase(), propertyName);
+
+                value = this.getTypedValue(source, field, propertyName, dataType, propertyValue);
+            }
+        } else {
+            value = this.getTypedValue(source, field, propertyName, dataType, propertyValue);
+        }
+
+        return value;
+    }
+
+    private FieldWriter createFieldWriter(final Field field, final Object value) {
+        FieldWriter writer;
+
+        try {
+            writer = FieldWriters.create(this.fieldInjectionType, field, value);
+        } catch (final IllegalAccessException iae) {
+            this.logger.debug("Falling back to reflection for field '{}': {}", field.getName(), iae.getMessage());
+
+            writer = FieldWriters.reflectiveWriter(field, value);
+        }
+
+        return writer;
+    }
+
+    private Object getDefaultValue(final PropertyDataType dataType) {
+        return switch (dataType) {
+            case STRING -> "";
+            case LONG, DATA_SIZE -> 0L;
+            case INTEGER -> 0;
+            case BOOLEAN -> false;
+            case DOUBLE -> 0.0d;
+            case FLOAT -> 0.0f;
+            case SHORT -> (short) 0;
+            case BYTE -> (byte) 0;
+            case CHAR -> '\0';
+            case DURATION -> Duration.ZERO;
+            case ENUM -> null;
+            case INT_ARRAY -> new int[0];
+            case LONG_ARRAY -> new long[0];
+            case STRING_ARRAY -> new String[0];
+        };
+    }
+
+    private Object getTypedValue(
+            final PropertyInjectionExceptionType source,
+            final Field field,
+            final String propertyName,
+            final PropertyDataType dataType,
+            final PropertyValue value) throws PropertyInjectionException {
+        assert value != null;
+
+        return switch (dataType) {
+            case STRING -> value.getString();
+            case LONG -> {
+                if (!value.isLong())
+                    throw InjectionPoint.newException(source, "Invalid long expression supplied", field, propertyName, dataType, value.getString());
+
+                yield value.getLong();
+            }
+            case INTEGER -> {
+                if (!value.isInteger())
+                    throw InjectionPoint.newException(source, "Invalid integer expression supplied", field, propertyName, dataType, value.getString());
+
+                yield value.getInteger();
+            }
+            case BOOLEAN -> {
+                if (!value.isBoolean())
+                    throw InjectionPoint.newException(source, "Invalid boolean expression supplied", field, propertyName, dataType, value.getString());
+
+                yield value.getBoolean();
+            }
+            default -> {
+                try {
+                    yield this.parse(field, dataType, value.getString());
+                } catch (final IllegalArgumentException | DateTimeException | ArithmeticException e) {
+                    final var exception = InjectionPoint.newException(
+                            source,
+                            "Invalid " + dataType.name().toLowerCase().replace('_', ' ') + " expression supplied",
+                            field,
+                            propertyName,
+                            dataType,
+                            value.getString());
+
+                    exception.initCause(e);
+
+                    throw exception;
+                }
+            }
+        };
+    }
+
+    private Object parse(final Field field, final PropertyDataType dataType, final String text) {
+        final Object value = switch (dataType) {
+            case DOUBLE -> PropertyParsers.parseDouble(text);
+            case FLOAT -> PropertyParsers.parseFloat(text);
+            case SHORT -> PropertyParsers.parseShort(text);
+            case BYTE -> PropertyParsers.parseByte(text);
+            case CHAR -> PropertyParsers.parseChar(text);
+            case DURATION -> PropertyParsers.parseDuration(text);
+            case DATA_SIZE -> PropertyParsers.parseDataSize(text);
+            case ENUM -> PropertyParsers.parseEnum(this.getEnumType(field), text);
+            case INT_ARRAY -> PropertyParsers.parseIntArray(text);
+            case LONG_ARRAY -> PropertyParsers.parseLongArray(text);
+            case STRING_ARRAY -> PropertyParsers.parseStringArray(text);
+            case BOOLEAN, INTEGER, LONG, STRING -> throw new IllegalStateException("Not parsed here: " + dataType);
+        };
+
+        return value;
+    }
+
+    /* The enum is the field's type or, for a Supplier field, its type argument */
+    private Class<?> getEnumType(final Field field) {
+        if (field.getType().isEnum())
+            return field.getType();
+
+        if (field.getGenericType() instanceof ParameterizedType parameterizedType &&
+                parameterizedType.getActualTypeArguments()[0] instanceof Class<?> suppliedType &&
+                suppliedType.isEnum())
+            return suppliedType;
+
+        throw new IllegalArgumentException("Field '" + field.getName() + "' is not of an enum type");
+    }
+}
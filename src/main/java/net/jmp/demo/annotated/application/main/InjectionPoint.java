@@ -0,0 +1,129 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)InjectionPoint.java         0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.reflect.Field;
+
+import net.jmp.demo.annotated.application.enumerations.PropertyDataType;
+import net.jmp.demo.annotated.application.enumerations.PropertyInjectionExceptionType;
+
+import net.jmp.demo.annotated.application.exceptions.ApplicationPropertyInjectionException;
+import net.jmp.demo.annotated.application.exceptions.PropertyInjectionException;
+import net.jmp.demo.annotated.application.exceptions.SystemPropertyInjectionException;
+
+final class InjectionPoint {
+    private final PropertyInjectionExceptionType source;
+    private final Field field;
+    private final String propertyName;
+    private final PropertyDataType dataType;
+    private final Object value;
+    private final FieldWriter writer;
+
+    InjectionPoint(
+            final PropertyInjectionExceptionType source,
+            final Field field,
+            final String propertyName,
+            final PropertyDataType dataType,
+            final Object value,
+            final FieldWriter writer
+    ) {
+        super();
+
+        this.source = source;
+        this.field = field;
+        this.propertyName = propertyName;
+        this.dataType = dataType;
+        this.value = value;
+        this.writer = writer;
+    }
+
+    PropertyInjectionExceptionType getSource() {
+        return this.source;
+    }
+
+    Field getField() {
+        return this.field;
+    }
+
+    String getPropertyName() {
+        return this.propertyName;
+    }
+
+    Object getValue() {
+        return this.value;
+    }
+
+    void inject(final Object instance) throws PropertyInjectionException {
+        try {
+            this.writer.write(instance);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable t) {
+            final var exception = newException(
+                    this.source,
+                    "Unable to set field",
+                    this.field,
+                    this.propertyName,
+                    this.dataType,
+                    String.valueOf(this.value)
+            );
+
+            exception.initCause(t);
+
+            throw exception;
+        }
+    }
+
+    static PropertyInjectionException newException(
+            final PropertyInjectionExceptionType source,
+            final String message,
+            final Field field,
+            final String propertyName,
+            final PropertyDataType dataType,
+            final String value) {
+        final PropertyInjectionException exception = switch (source) {
+            case APPLICATION -> new ApplicationPropertyInjectionException(message);
+            case SYSTEM -> new SystemPropertyInjectionException(message);
+        };
+
+        exception.setFieldName(field.getName());
+        exception.setPropertyName(propertyName);
+        exception.setDataType(dataType);
+        exception.setValue(value);
+
+        return exception;
+    }
+
+    @Override
+    public String toString() {
+        return this.field.getDeclaringClass().getName() + '.' + this.field.getName() + " <- " + this.propertyName;
+    }
+}
@@ -0,0 +1,92 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)LazyProperty.java           0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.function.Supplier;
+
+import net.jmp.demo.annotated.application.exceptions.PropertyInjectionException;
+
+/*
+ * The value injected into Supplier fields. The property is looked up
+ * and converted on the first call to get and the result is kept for
+ * later calls; an array result is copied on every call. A conversion
+ * failure is rethrown on every call.
+ */
+final class LazyProperty implements Supplier<Object> {
+    private final String propertyName;
+    private final Resolver resolver;
+
+    private volatile boolean resolved;
+    private Object value;
+
+    LazyProperty(final String propertyName, final Resolver resolver) {
+        super();
+
+        assert propertyName != null;
+        assert resolver != null;
+
+        this.propertyName = propertyName;
+        this.resolver = resolver;
+    }
+
+    @Override
+    public Object get() {
+        if (!this.resolved) {
+            synchronized (this) {
+                if (!this.resolved) {
+                    try {
+                        this.value = this.resolver.resolve();
+                    } catch (final PropertyInjectionException pie) {
+                        throw new IllegalStateException("Unable to resolve property: " + this.propertyName, pie);
+                    }
+
+                    this.resolved = true;
+                }
+            }
+        }
+
+        return FieldWriters.copyValue(this.value);
+    }
+
+    boolean isResolved() {
+        return this.resolved;
+    }
+
+    @Override
+    public String toString() {
+        return "LazyProperty[" + this.propertyName + (this.resolved ? " = " + this.value : "") + "]";
+    }
+
+    @FunctionalInterface
+    interface Resolver {
+        Object resolve() throws PropertyInjectionException;
+    }
+}
@@ -1,12 +1,13 @@
 package net.jmp.demo.annotated.application.main;
 
 /*
+ * (#)Main.java 0.7.0   10/18/2026
  * (#)Main.java 0.4.0   03/05/2024
  * (#)Main.java 0.2.0   02/29/2024
  * (#)Main.java 0.1.0   02/27/2024
  *
  * @author    Jonathan Parker
- * @version   0.4.0
+ * @version   0.7.0
  * @since     0.1.0
  *
  * MIT License
@@ -32,7 +33,17 @@ package net.jmp.demo.annotated.application.main;
  * SOFTWARE.
  */
 
-import java.util.Optional;
+import java.io.IOException;
+
+import java.util.List;
+
+import java.util.concurrent.Executors;
+
+import net.jmp.demo.annotated.application.enumerations.ApplicationPhase;
+
+import net.jmp.demo.annotated.application.exceptions.PropertyInjectionException;
+
+import net.jmp.demo.annotated.application.records.ScanResults;
 
 import org.slf4j.LoggerFactory;
 
@@ -40,39 +51,202 @@ import org.slf4j.ext.XLogger;
 
 public final class Main {
     private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
+    private final List<String> arguments;
+    private final StartupSnapshot startupSnapshot;
 
-    private Main() {
+    private Main(final List<String> arguments) {
         super();
+
+        this.arguments = arguments;
+        this.startupSnapshot = StartupSnapshot.fromSystemProperties().orElse(null);
     }
 
     private void run() {
         this.logger.entry();
 
-        this.locateApplication().ifPresent(clazz -> {
-            this.configureApplication(clazz);
-            this.executeApplication(clazz);
-        });
+        final var metrics = FrameworkMetrics.getInstance();
+
+        metrics.register();
+
+        final var scanResults = this.scanClasspath();
+        final var applicationClasses = this.locateApplications(scanResults);
+
+        if (this.startupSnapshot != null && this.startupSnapshot.isTraining())
+            this.trainApplications(applicationClasses, scanResults);
+        else if (applicationClasses.size() == 1)
+            this.runApplication(applicationClasses.get(0), scanResults);
+        else if (applicationClasses.size() > 1)
+            this.runApplicationsConcurrently(applicationClasses, scanResults);
+
+        if (FrameworkMetrics.ENABLED)
+            this.logger.info("Phase summary: {}", metrics.getSummary());
 
         this.logger.exit();
     }
 
-    private Optional<Class<?>> locateApplication() {
+    private ScanResults scanClasspath() {
         this.logger.entry();
 
+        final var start = System.nanoTime();
+
+        ScanResults scanResults = null;
+
+        if (this.startupSnapshot != null && !this.startupSnapshot.isTraining())
+            scanResults = this.startupSnapshot.readScanResults().orElse(null);
+
+        if (scanResults == null)
+            scanResults = new AnnotationScanner().scan();
+
+        FrameworkMetrics.getInstance().record(ApplicationPhase.SCAN, System.nanoTime() - start);
+
+        this.logger.exit(scanResults);
+
+        return scanResults;
+    }
+
+    private List<Class<?>> locateApplications(final ScanResults scanResults) {
+        this.logger.entry(scanResults);
+
+        assert scanResults != null;
+
+        final var start = System.nanoTime();
         final var locator = new ApplicationLocator();
-        final var application = locator.locateApplicationClass();
+        final var applicationClasses = locator.locateApplicationClasses(scanResults);
 
-        this.logger.exit(application);
+        FrameworkMetrics.getInstance().record(ApplicationPhase.LOCATE, System.nanoTime() - start);
 
-        return application;
+        this.logger.exit(applicationClasses);
+
+        return applicationClasses;
     }
 
-    private void configureApplication(final Class<?> applicationClass) {
-        this.logger.entry(applicationClass);
+    /*
+     * Runs each application on its own thread. A failure in one
+     * application does not stop the others. The executor belongs
+     * to this run and is shut down when every application is done.
+     */
+    private void runApplicationsConcurrently(final List<Class<?>> applicationClasses, final ScanResults scanResults) {
+        this.logger.entry(applicationClasses, scanResults);
+
+        assert applicationClasses != null;
+        assert scanResults != null;
+
+        final var executor = Executors.newThreadPerTaskExecutor(Thread.ofPlatform().name("application-", 0).factory());
+
+        try (executor) {
+            for (final var applicationClass : applicationClasses) {
+                executor.execute(() -> {
+                    Thread.currentThread().setName("application-" + applicationClass.getSimpleName());
+
+                    try {
+                        this.runApplication(applicationClass, scanResults);
+                    } catch (final RuntimeException re) {
+                        this.logger.catching(re);
+                        this.logger.error("Application {} failed", applicationClass.getName());
+                    }
+                });
+            }
+        }
+
+        this.logger.exit();
+    }
+
+    /* The application is configured and executed within its own context */
+    private void runApplication(final Class<?> applicationClass, final ScanResults scanResults) {
+        this.logger.entry(applicationClass, scanResults);
 
         assert applicationClass != null;
+        assert scanResults != null;
+
+        final var context = new ApplicationContext(applicationClass);
+
+        try {
+            context.run(() -> {
+                this.configureApplication(applicationClass, scanResults);
+
+                if (CheckpointHooks.register(context))
+                    this.logger.debug("Checkpoint hooks registered for application: {}", applicationClass.getName());
+
+                this.executeApplication(applicationClass);
+            });
+        } finally {
+            this.closeContext(context);
+        }
+
+        this.logger.exit();
+    }
+
+    /*
+     * Configures each application and creates an instance of every
+     * managed class, without executing the application, then writes
+     * the startup snapshot.
+     */
+    private void trainApplications(final List<Class<?>> applicationClasses, final ScanResults scanResults) {
+        this.logger.entry(applicationClasses, scanResults);
+
+        assert applicationClasses != null;
+        assert scanResults != null;
+
+        for (final var applicationClass : applicationClasses) {
+            final var context = new ApplicationContext(applicationClass);
+
+            try {
+                context.run(() -> {
+                    this.configureApplication(applicationClass, scanResults);
+                    this.createManagedInstances(scanResults);
+                });
+            } finally {
+                this.closeContext(context);
+            }
+        }
+
+        this.startupSnapshot.write(scanResults);
+
+        this.logger.exit();
+    }
+
+    private void createManagedInstances(final ScanResults scanResults) {
+        this.logger.entry(scanResults);
+
+        assert scanResults != null;
+
+        final var contextClassLoader = Thread.currentThread().getContextClassLoader();
+        final var classLoader = contextClassLoader != null ? contextClassLoader : this.getClass().getClassLoader();
+
+        for (final var managedClassName : scanResults.managedClassNames()) {
+            try {
+                final var managedClass = Class.forName(managedClassName, true, classLoader);
+
+                ClassManager.newInstance(managedClass);
+            } catch (final ClassNotFoundException | PropertyInjectionException e) {
+                this.logger.catching(e);
+            }
+        }
+
+        this.logger.exit();
+    }
+
+    private void closeContext(final ApplicationContext context) {
+        CheckpointHooks.unregister(context);
+
+        try {
+            context.close();
+        } catch (final IOException ioe) {
+            this.logger.catching(ioe);
+        }
+    }
+
+    private void configureApplication(final Class<?> applicationClass, final ScanResults scanResults) {
+        this.logger.entry(applicationClass, scanResults);
+
+        assert applicationClass != null;
+        assert scanResults != null;
+
+        final var start = System.nanoTime();
+
+        new ApplicationConfigurator().configureApplication(applicationClass, scanResults, this.arguments);
 
-        new ApplicationConfigurator().configureApplication(applicationClass);
+        FrameworkMetrics.getInstance().record(ApplicationPhase.CONFIGURE, System.nanoTime() - start);
 
         this.logger.exit();
     }
@@ -88,6 +262,6 @@ public final class Main {
     }
 
     public static void main(final String[] arguments) {
-        new Main().run();
+        new Main(List.of(arguments)).run();
     }
 }
@@ -0,0 +1,600 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)MappedAnnotationScanner.java0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.File;
+import java.io.IOException;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+
+import java.nio.channels.FileChannel;
+
+import java.nio.charset.StandardCharsets;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+import net.jmp.demo.annotated.application.annotations.Application;
+import net.jmp.demo.annotated.application.annotations.ApplicationProperty;
+import net.jmp.demo.annotated.application.annotations.ManagedClass;
+import net.jmp.demo.annotated.application.annotations.SystemProperty;
+
+import net.jmp.demo.annotated.application.records.AnnotatedField;
+import net.jmp.demo.annotated.application.records.ScanResults;
+
+import org.slf4j.LoggerFactory;
+
+import org.slf4j.ext.XLogger;
+
+/*
+ * Scans jar files by memory-mapping them and reading the zip central
+ * directory directly. Class files are parsed in place; only the
+ * RuntimeVisibleAnnotations attributes of classes and fields are
+ * examined, and strings are decoded only for matching annotations.
+ * The name of an @ApplicationProperty is read as well, so that the
+ * referenced keys are known without loading the class.
+ * Jar files that cannot be read this way are returned by
+ * getUnreadableRoots so they can be handed to the annotation detector.
+ * What is found in a jar is buffered and kept only once the whole jar
+ * has been read, so a jar that fails partway contributes nothing.
+ */
+final class MappedAnnotationScanner {
+    private static final int CLASS_FILE_MAGIC = 0xCAFEBABE;
+    private static final int END_OF_CENTRAL_DIRECTORY = 0x06054b50;
+    private static final int CENTRAL_DIRECTORY_ENTRY = 0x02014b50;
+    private static final int LOCAL_FILE_HEADER = 0x04034b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+    private static final int MAXIMUM_COMMENT_SIZE = 0xFFFF;
+    private static final int STORED = 0;
+    private static final int DEFLATED = 8;
+
+    private static final int APPLICATION = 1;
+    private static final int MANAGED_CLASS = 2;
+    private static final int APPLICATION_PROPERTY = 4;
+    private static final int SYSTEM_PROPERTY = 8;
+
+    private static final byte[] APPLICATION_DESCRIPTOR = descriptor(Application.class);
+    private static final byte[] MANAGED_CLASS_DESCRIPTOR = descriptor(ManagedClass.class);
+    private static final byte[] APPLICATION_PROPERTY_DESCRIPTOR = descriptor(ApplicationProperty.class);
+    private static final byte[] SYSTEM_PROPERTY_DESCRIPTOR = descriptor(SystemProperty.class);
+    private static final byte[] RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NAME_ELEMENT = "name".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] CLASS_SUFFIX = ".class".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] META_INF_PREFIX = "META-INF/".getBytes(StandardCharsets.US_ASCII);
+
+    private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
+    private final ScanScope scope;
+    private final Inflater inflater = new Inflater(true);
+    private final Findings findings = new Findings();
+    private final Findings jarFindings = new Findings();
+    private final List<File> unreadableRoots = new ArrayList<>();
+
+    private Findings currentFindings = this.findings;
+    private ByteBuffer classBuffer = ByteBuffer.allocate(16 * 1024);
+    private int[] constants = new int[1024];
+    private String applicationPropertyName;
+
+    MappedAnnotationScanner(final ScanScope scope) {
+        super();
+
+        assert scope != null;
+
+        this.scope = scope;
+    }
+
+    ScanResults scan(final File[] roots) {
+        this.logger.entry((Object) roots);
+
+        try {
+            for (final var root : roots) {
+                if (root.isDirectory())
+                    this.scanDirectory(root.toPath());
+                else if (root.isFile())
+                    this.scanJar(root);
+            }
+        } finally {
+            this.inflater.end();
+        }
+
+        FrameworkMetrics.getInstance().addClassesScanned(this.findings.classesScanned);
+
+        final var results = new ScanResults(
+                List.copyOf(this.findings.applicationClassNames),
+                List.copyOf(this.findings.managedClassNames),
+                List.copyOf(this.findings.annotatedFields)
+        );
+
+        this.logger.exit(results);
+
+        return results;
+    }
+
+    List<File> getUnreadableRoots() {
+        return List.copyOf(this.unreadableRoots);
+    }
+
+    long getClassesScanned() {
+        return this.findings.classesScanned;
+    }
+
+    /* Class files in directories are small, so they are read into one reused buffer rather than mapped */
+    private void scanDirectory(final Path directory) {
+        this.logger.entry(directory);
+
+        try (final var files = Files.walk(directory)) {
+            for (final var file : (Iterable<Path>) files::iterator) {
+                final var fileName = file.getFileName().toString();
+
+                if (!fileName.endsWith(".class") || fileName.equals("module-info.class") || !Files.isRegularFile(file))
+                    continue;
+
+                if (this.scope.hasPackageNames() && !this.scope.includesClass(toClassName(directory.relativize(file).toString())))
+                    continue;
+
+                try (final var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                    final var classFile = this.getClassBuffer((int) channel.size());
+
+                    while (classFile.hasRemaining() && channel.read(classFile) >= 0)
+                        ;
+
+                    this.scanClass(classFile.flip(), file);
+                }
+            }
+        } catch (final IOException ioe) {
+            this.logger.catching(ioe);
+        }
+
+        this.logger.exit();
+    }
+
+    private void scanJar(final File jar) {
+        this.logger.entry(jar);
+
+        this.jarFindings.clear();
+        this.currentFindings = this.jarFindings;
+
+        try (final var channel = FileChannel.open(jar.toPath(), StandardOpenOption.READ)) {
+            final var mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            mapped.order(ByteOrder.LITTLE_ENDIAN);
+
+            this.scanCentralDirectory(mapped, jar);
+            this.findings.addAll(this.jarFindings);
+        } catch (final IOException | RuntimeException e) {
+            this.logger.warn("Unable to map {}; it will be scanned by the annotation detector: {}", jar, e.toString());
+
+            this.unreadableRoots.add(jar);
+        } finally {
+            this.currentFindings = this.findings;
+        }
+
+        this.logger.exit();
+    }
+
+    private void scanCentralDirectory(final MappedByteBuffer zip, final File jar) throws IOException {
+        final var endOfCentralDirectory = findEndOfCentralDirectory(zip);
+        final var numberOfEntries = Short.toUnsignedInt(zip.getShort(endOfCentralDirectory + 10));
+        final var centralDirectoryOffset = Integer.toUnsignedLong(zip.getInt(endOfCentralDirectory + 16));
+
+        if (numberOfEntries == 0xFFFF || centralDirectoryOffset == 0xFFFFFFFFL)
+            throw new ZipException("ZIP64 archives are not supported");
+
+        var entry = (int) centralDirectoryOffset;
+
+        for (int i = 0; i < numberOfEntries; i++) {
+            if (zip.getInt(entry) != CENTRAL_DIRECTORY_ENTRY)
+                throw new ZipException("Invalid central directory entry at " + entry);
+
+            final var method = Short.toUnsignedInt(zip.getShort(entry + 10));
+            final var compressedSize = zip.getInt(entry + 20);
+            final var uncompressedSize = zip.getInt(entry + 24);
+            final var nameLength = Short.toUnsignedInt(zip.getShort(entry + 28));
+            final var extraLength = Short.toUnsignedInt(zip.getShort(entry + 30));
+            final var commentLength = Short.toUnsignedInt(zip.getShort(entry + 32));
+            final var localHeader = zip.getInt(entry + 42);
+            final var name = entry + 46;
+
+            if (this.isClassEntry(zip, name, nameLength)) {
+                final var data = dataOffset(zip, localHeader);
+
+                if (method == STORED)
+                    this.scanClass(zip.slice(data, compressedSize).order(ByteOrder.BIG_ENDIAN), jar);
+                else if (method == DEFLATED)
+                    this.scanClass(this.inflate(zip.slice(data, compressedSize), uncompressedSize), jar);
+                else
+                    throw new ZipException("Unsupported compression method " + method);
+            }
+
+            entry = name + nameLength + extraLength + commentLength;
+        }
+    }
+
+    private boolean isClassEntry(final ByteBuffer zip, final int name, final int nameLength) {
+        if (!endsWith(zip, name, nameLength, CLASS_SUFFIX) || startsWith(zip, name, nameLength, META_INF_PREFIX))
+            return false;
+
+        if (this.scope.hasPackageNames()) {
+            final var bytes = new byte[nameLength];
+
+            zip.get(name, bytes);
+
+            return this.scope.includesClass(toClassName(new String(bytes, StandardCharsets.UTF_8)));
+        }
+
+        return true;
+    }
+
+    private ByteBuffer inflate(final ByteBuffer compressed, final int uncompressedSize) throws ZipException {
+        final var classFile = this.getClassBuffer(uncompressedSize);
+
+        this.inflater.reset();
+        this.inflater.setInput(compressed);
+
+        try {
+            while (classFile.hasRemaining() && !this.inflater.finished()) {
+                if (this.inflater.inflate(classFile) == 0 && (this.inflater.needsInput() || this.inflater.needsDictionary()))
+                    throw new ZipException("Truncated deflated entry");
+            }
+        } catch (final DataFormatException dfe) {
+            throw new ZipException(dfe.getMessage());
+        }
+
+        return classFile.flip();
+    }
+
+    private ByteBuffer getClassBuffer(final int size) {
+        if (this.classBuffer.capacity() < size)
+            this.classBuffer = ByteBuffer.allocate(Math.max(size, this.classBuffer.capacity() * 2));
+
+        return this.classBuffer.clear().limit(size);
+    }
+
+    private void scanClass(final ByteBuffer classFile, final Object source) {
+        this.currentFindings.classesScanned++;
+
+        try {
+            this.parseClass(classFile);
+        } catch (final BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            this.logger.warn("Skipping a malformed class file in {}: {}", source, e.toString());
+        }
+    }
+
+    private void parseClass(final ByteBuffer classFile) {
+        if (classFile.getInt() != CLASS_FILE_MAGIC)
+            throw new IllegalArgumentException("Bad magic number");
+
+        classFile.position(classFile.position() + 4);
+
+        final var constantPoolCount = Short.toUnsignedInt(classFile.getShort());
+
+        if (this.constants.length < constantPoolCount)
+            this.constants = new int[Math.max(constantPoolCount, this.constants.length * 2)];
+
+        for (int i = 1; i < constantPoolCount; i++) {
+            final var tag = classFile.get();
+
+            switch (tag) {
+                case 1 -> {
+                    this.constants[i] = classFile.position();
+
+                    skip(classFile, Short.toUnsignedInt(classFile.getShort()));
+                }
+                case 7 -> this.constants[i] = Short.toUnsignedInt(classFile.getShort());
+                case 8, 16, 19, 20 -> skip(classFile, 2);
+                case 15 -> skip(classFile, 3);
+                case 3, 4, 9, 10, 11, 12, 17, 18 -> skip(classFile, 4);
+                case 5, 6 -> {
+                    skip(classFile, 8);
+
+                    i++;
+                }
+                default -> throw new IllegalArgumentException("Unknown constant pool tag " + tag);
+            }
+        }
+
+        skip(classFile, 2);
+
+        final var thisClass = Short.toUnsignedInt(classFile.getShort());
+
+        skip(classFile, 2);
+        skip(classFile, 2 * Short.toUnsignedInt(classFile.getShort()));
+
+        String className = null;
+
+        final var fieldCount = Short.toUnsignedInt(classFile.getShort());
+
+        for (int i = 0; i < fieldCount; i++) {
+            skip(classFile, 2);
+
+            final var fieldName = Short.toUnsignedInt(classFile.getShort());
+
+            skip(classFile, 2);
+
+            final var found = this.scanAttributes(classFile);
+
+            if ((found & (APPLICATION_PROPERTY | SYSTEM_PROPERTY)) != 0) {
+                if (className == null)
+                    className = this.getClassName(classFile, thisClass);
+
+                this.currentFindings.annotatedFields.add(new AnnotatedField(
+                        className,
+                        this.decode(classFile, fieldName),
+                        (found & APPLICATION_PROPERTY) != 0 ? this.applicationPropertyName : "")
+                );
+            }
+        }
+
+        final var methodCount = Short.toUnsignedInt(classFile.getShort());
+
+        for (int i = 0; i < methodCount; i++) {
+            skip(classFile, 6);
+
+            final var attributeCount = Short.toUnsignedInt(classFile.getShort());
+
+            for (int j = 0; j < attributeCount; j++) {
+                skip(classFile, 2);
+                skip(classFile, classFile.getInt());
+            }
+        }
+
+        final var found = this.scanAttributes(classFile);
+
+        if ((found & (APPLICATION | MANAGED_CLASS)) != 0 && className == null)
+            className = this.getClassName(classFile, thisClass);
+
+        if ((found & APPLICATION) != 0)
+            this.currentFindings.applicationClassNames.add(className);
+
+        if ((found & MANAGED_CLASS) != 0)
+            this.currentFindings.managedClassNames.add(className);
+    }
+
+    /* Returns the framework annotations found in the attributes at the current position */
+    private int scanAttributes(final ByteBuffer classFile) {
+        final var attributeCount = Short.toUnsignedInt(classFile.getShort());
+
+        var found = 0;
+
+        this.applicationPropertyName = null;
+
+        for (int i = 0; i < attributeCount; i++) {
+            final var attributeName = Short.toUnsignedInt(classFile.getShort());
+            final var attributeLength = classFile.getInt();
+            final var end = classFile.position() + attributeLength;
+
+            if (this.utf8Equals(classFile, attributeName, RUNTIME_VISIBLE_ANNOTATIONS)) {
+                final var annotationCount = Short.toUnsignedInt(classFile.getShort());
+
+                for (int j = 0; j < annotationCount; j++) {
+                    final var type = Short.toUnsignedInt(classFile.getShort());
+
+                    if (this.utf8Equals(classFile, type, APPLICATION_PROPERTY_DESCRIPTOR)) {
+                        found |= APPLICATION_PROPERTY;
+
+                        this.applicationPropertyName = this.readNameElement(classFile);
+
+                        continue;
+                    }
+
+                    if (this.utf8Equals(classFile, type, APPLICATION_DESCRIPTOR))
+                        found |= APPLICATION;
+                    else if (this.utf8Equals(classFile, type, MANAGED_CLASS_DESCRIPTOR))
+                        found |= MANAGED_CLASS;
+                    else if (this.utf8Equals(classFile, type, SYSTEM_PROPERTY_DESCRIPTOR))
+                        found |= SYSTEM_PROPERTY;
+
+                    skipElementValuePairs(classFile);
+                }
+            }
+
+            classFile.position(end);
+        }
+
+        return found;
+    }
+
+    private boolean utf8Equals(final ByteBuffer classFile, final int index, final byte[] expected) {
+        final var offset = this.constants[index];
+
+        if (Short.toUnsignedInt(classFile.getShort(offset)) != expected.length)
+            return false;
+
+        for (int i = 0; i < expected.length; i++) {
+            if (classFile.get(offset + 2 + i) != expected[i])
+                return false;
+        }
+
+        return true;
+    }
+
+    private String getClassName(final ByteBuffer classFile, final int classIndex) {
+        return this.decode(classFile, this.constants[classIndex]).replace('/', '.');
+    }
+
+    /* Decodes the modified UTF-8 of the constant at the given index */
+    private String decode(final ByteBuffer classFile, final int index) {
+        final var offset = this.constants[index];
+        final var length = Short.toUnsignedInt(classFile.getShort(offset));
+        final var chars = new char[length];
+
+        var count = 0;
+
+        for (int i = offset + 2; i < offset + 2 + length; ) {
+            final var b = classFile.get(i) & 0xFF;
+
+            if (b < 0x80) {
+                chars[count++] = (char) b;
+                i++;
+            } else if ((b & 0xE0) == 0xC0) {
+                chars[count++] = (char) (((b & 0x1F) << 6) | (classFile.get(i + 1) & 0x3F));
+                i += 2;
+            } else {
+                chars[count++] = (char) (((b & 0x0F) << 12) | ((classFile.get(i + 1) & 0x3F) << 6) | (classFile.get(i + 2) & 0x3F));
+                i += 3;
+            }
+        }
+
+        return new String(chars, 0, count);
+    }
+
+    /* Returns the string value of the name element, skipping every other element */
+    private String readNameElement(final ByteBuffer classFile) {
+        final var pairCount = Short.toUnsignedInt(classFile.getShort());
+
+        String name = null;
+
+        for (int i = 0; i < pairCount; i++) {
+            final var elementName = Short.toUnsignedInt(classFile.getShort());
+
+            if (classFile.get(classFile.position()) == 's' && this.utf8Equals(classFile, elementName, NAME_ELEMENT)) {
+                skip(classFile, 1);
+
+                name = this.decode(classFile, Short.toUnsignedInt(classFile.getShort()));
+            } else {
+                skipElementValue(classFile);
+            }
+        }
+
+        return name;
+    }
+
+    private static void skipElementValuePairs(final ByteBuffer classFile) {
+        final var pairCount = Short.toUnsignedInt(classFile.getShort());
+
+        for (int i = 0; i < pairCount; i++) {
+            skip(classFile, 2);
+            skipElementValue(classFile);
+        }
+    }
+
+    private static void skipElementValue(final ByteBuffer classFile) {
+        final var tag = (char) classFile.get();
+
+        switch (tag) {
+            case 'B', 'C', 'D', 'F', 'I', 'J', 'S', 'Z', 's', 'c' -> skip(classFile, 2);
+            case 'e' -> skip(classFile, 4);
+            case '@' -> {
+                skip(classFile, 2);
+                skipElementValuePairs(classFile);
+            }
+            case '[' -> {
+                final var valueCount = Short.toUnsignedInt(classFile.getShort());
+
+                for (int i = 0; i < valueCount; i++)
+                    skipElementValue(classFile);
+            }
+            default -> throw new IllegalArgumentException("Unknown element value tag " + tag);
+        }
+    }
+
+    private static void skip(final ByteBuffer buffer, final int count) {
+        buffer.position(buffer.position() + count);
+    }
+
+    private static int findEndOfCentralDirectory(final ByteBuffer zip) throws ZipException {
+        final var last = zip.limit() - END_OF_CENTRAL_DIRECTORY_SIZE;
+        final var first = Math.max(0, last - MAXIMUM_COMMENT_SIZE);
+
+        for (int i = last; i >= first; i--) {
+            if (zip.getInt(i) == END_OF_CENTRAL_DIRECTORY)
+                return i;
+        }
+
+        throw new ZipException("No end of central directory record");
+    }
+
+    private static int dataOffset(final ByteBuffer zip, final int localHeader) throws ZipException {
+        if (zip.getInt(localHeader) != LOCAL_FILE_HEADER)
+            throw new ZipException("Invalid local file header at " + localHeader);
+
+        return localHeader + 30 +
+                Short.toUnsignedInt(zip.getShort(localHeader + 26)) +
+                Short.toUnsignedInt(zip.getShort(localHeader + 28));
+    }
+
+    private static boolean startsWith(final ByteBuffer buffer, final int offset, final int length, final byte[] prefix) {
+        if (length < prefix.length)
+            return false;
+
+        for (int i = 0; i < prefix.length; i++) {
+            if (buffer.get(offset + i) != prefix[i])
+                return false;
+        }
+
+        return true;
+    }
+
+    private static boolean endsWith(final ByteBuffer buffer, final int offset, final int length, final byte[] suffix) {
+        return length >= suffix.length && startsWith(buffer, offset + length - suffix.length, suffix.length, suffix);
+    }
+
+    private static String toClassName(final String path) {
+        return path.substring(0, path.length() - ".class".length()).replace('/', '.').replace(File.separatorChar, '.');
+    }
+
+    private static byte[] descriptor(final Class<?> annotation) {
+        return ('L' + annotation.getName().replace('.', '/') + ';').getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /* The classes and fields found, and the number of class files read */
+    private static final class Findings {
+        private final List<String> applicationClassNames = new ArrayList<>();
+        private final List<String> managedClassNames = new ArrayList<>();
+        private final List<AnnotatedField> annotatedFields = new ArrayList<>();
+
+        private long classesScanned;
+
+        private void addAll(final Findings other) {
+            this.applicationClassNames.addAll(other.applicationClassNames);
+            this.managedClassNames.addAll(other.managedClassNames);
+            this.annotatedFields.addAll(other.annotatedFields);
+            this.classesScanned += other.classesScanned;
+        }
+
+        private void clear() {
+            this.applicationClassNames.clear();
+            this.managedClassNames.clear();
+            this.annotatedFields.clear();
+            this.classesScanned = 0;
+        }
+    }
+}
@@ -0,0 +1,323 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)PropertyFileReader.java     0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
+
+import java.nio.channels.FileChannel;
+
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import java.util.Map;
+
+import java.util.function.Predicate;
+
+/*
+ * Reads a file in the format of Properties.load(InputStream), with
+ * its comments, escapes, separators and continuation lines, straight
+ * from a byte buffer. Large files are memory-mapped. Only the keys
+ * accepted by the filter are kept; the values of the others are
+ * skipped without being decoded.
+ */
+final class PropertyFileReader {
+    static final long DEFAULT_MAPPING_THRESHOLD = 1L << 20;
+
+    private final Predicate<String> retainedKeys;
+    private final long mappingThreshold;
+    private final StringBuilder builder = new StringBuilder();
+
+    private ByteBuffer buffer;
+    private int position;
+    private int limit;
+    private boolean escaped;
+
+    PropertyFileReader(final Predicate<String> retainedKeys) {
+        this(retainedKeys, DEFAULT_MAPPING_THRESHOLD);
+    }
+
+    PropertyFileReader(final Predicate<String> retainedKeys, final long mappingThreshold) {
+        super();
+
+        assert retainedKeys != null;
+
+        this.retainedKeys = retainedKeys;
+        this.mappingThreshold = mappingThreshold;
+    }
+
+    void read(final Path file, final Map<String, String> properties) throws IOException {
+        try (final var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final var size = channel.size();
+
+            if (size > Integer.MAX_VALUE)
+                throw new IOException("Property file is too large: " + file);
+
+            final ByteBuffer contents;
+
+            if (size >= this.mappingThreshold) {
+                contents = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            } else {
+                contents = ByteBuffer.allocate((int) size);
+
+                while (contents.hasRemaining() && channel.read(contents) >= 0) {
+                    // Read until full or at the end of the file
+                }
+
+                contents.flip();
+            }
+
+            this.read(contents, properties);
+        }
+    }
+
+    /* The bytes are ISO 8859-1, as for Properties.load(InputStream) */
+    void read(final ByteBuffer contents, final Map<String, String> properties) {
+        this.buffer = contents;
+        this.position = contents.position();
+        this.limit = contents.limit();
+
+        try {
+            while (this.position < this.limit) {
+                this.skipWhitespace();
+
+                if (this.position >= this.limit)
+                    break;
+
+                final var first = this.peek();
+
+                if (first == '\n' || first == '\r') {
+                    this.skipLineTerminator();
+                } else if (first == '#' || first == '!') {
+                    this.skipComment();
+                } else if (first == '\\' && this.isLineTerminator(this.position + 1)) {
+                    /* A continuation before any key still allows a comment to follow */
+                    this.position++;
+                    this.skipLineTerminator();
+                } else {
+                    this.readEntry(properties);
+                }
+            }
+        } finally {
+            this.buffer = null;
+        }
+    }
+
+    private void readEntry(final Map<String, String> properties) {
+        this.builder.setLength(0);
+
+        var separated = false;
+        var c = this.next();
+
+        while (c >= 0) {
+            if (!this.escaped && (c == '=' || c == ':')) {
+                separated = true;
+
+                break;
+            }
+
+            if (!this.escaped && isWhitespace(c))
+                break;
+
+            this.builder.append((char) c);
+
+            c = this.next();
+        }
+
+        final var key = this.builder.toString();
+
+        if (c >= 0) {
+            c = this.nextNonWhitespace();
+
+            if (!separated && c >= 0 && !this.escaped && (c == '=' || c == ':'))
+                c = this.nextNonWhitespace();
+        }
+
+        if (this.retainedKeys.test(key)) {
+            this.builder.setLength(0);
+
+            while (c >= 0) {
+                this.builder.append((char) c);
+
+                c = this.next();
+            }
+
+            properties.put(key, this.builder.toString());
+        } else if (c >= 0) {
+            this.skipValue();
+        }
+    }
+
+    /*
+     * Returns the next character of the logical line, or -1 at its end,
+     * joining continuation lines and decoding escapes. The escaped flag
+     * tells whether the character was escaped.
+     */
+    private int next() {
+        while (this.position < this.limit) {
+            final var c = this.get();
+
+            if (c == '\n' || c == '\r') {
+                this.position--;
+                this.skipLineTerminator();
+
+                return -1;
+            }
+
+            if (c != '\\') {
+                this.escaped = false;
+
+                return c;
+            }
+
+            if (this.position >= this.limit)
+                return -1;
+
+            final var e = this.get();
+
+            if (e == '\n' || e == '\r') {
+                this.position--;
+                this.skipLineTerminator();
+                this.skipWhitespace();
+            } else {
+                this.escaped = true;
+
+                return switch (e) {
+                    case 't' -> '\t';
+                    case 'n' -> '\n';
+                    case 'r' -> '\r';
+                    case 'f' -> '\f';
+                    case 'u' -> this.readUnicode();
+                    default -> e;
+                };
+            }
+        }
+
+        return -1;
+    }
+
+    private int nextNonWhitespace() {
+        var c = this.next();
+
+        while (c >= 0 && !this.escaped && isWhitespace(c))
+            c = this.next();
+
+        return c;
+    }
+
+    private int readUnicode() {
+        if (this.limit - this.position < 4)
+            throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+
+        var value = 0;
+
+        for (int i = 0; i < 4; i++) {
+            final var digit = Character.digit(this.get(), 16);
+
+            if (digit < 0)
+                throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+
+            value = (value << 4) | digit;
+        }
+
+        return value;
+    }
+
+    /* Skips the rest of a logical line without decoding it */
+    private void skipValue() {
+        while (this.position < this.limit) {
+            final var c = this.get();
+
+            if (c == '\n' || c == '\r') {
+                this.position--;
+                this.skipLineTerminator();
+
+                return;
+            }
+
+            if (c == '\\' && this.position < this.limit) {
+                final var e = this.get();
+
+                if (e == '\n' || e == '\r') {
+                    this.position--;
+                    this.skipLineTerminator();
+                }
+            }
+        }
+    }
+
+    /* A comment ends at the end of its line, even after a backslash */
+    private void skipComment() {
+        while (this.position < this.limit) {
+            final var c = this.peek();
+
+            if (c == '\n' || c == '\r') {
+                this.skipLineTerminator();
+
+                return;
+            }
+
+            this.position++;
+        }
+    }
+
+    private void skipWhitespace() {
+        while (this.position < this.limit && isWhitespace(this.peek()))
+            this.position++;
+    }
+
+    private void skipLineTerminator() {
+        if (this.get() == '\r' && this.position < this.limit && this.peek() == '\n')
+            this.position++;
+    }
+
+    private boolean isLineTerminator(final int index) {
+        if (index >= this.limit)
+            return false;
+
+        final var c = this.buffer.get(index);
+
+        return c == '\n' || c == '\r';
+    }
+
+    private int peek() {
+        return this.buffer.get(this.position) & 0xFF;
+    }
+
+    private int get() {
+        return this.buffer.get(this.position++) & 0xFF;
+    }
+
+    private static boolean isWhitespace(final int c) {
+        return c == ' ' || c == '\t' || c == '\f';
+    }
+}
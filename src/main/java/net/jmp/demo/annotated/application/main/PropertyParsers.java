@@ -0,0 +1,427 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)PropertyParsers.java        0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.time.Duration;
+
+import java.time.temporal.ChronoUnit;
+
+/*
+ * Parsers for property values that read the CharSequence in place.
+ * Leading and trailing whitespace is ignored, and no substrings are
+ * created except for the elements of string arrays. Malformed
+ * values are rejected with an IllegalArgumentException.
+ */
+final class PropertyParsers {
+    private static final double[] DOUBLE_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private static final float[] FLOAT_POWERS_OF_TEN = {
+            1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+
+    private static final ClassValue<Object[]> ENUM_CONSTANTS = new ClassValue<>() {
+        @Override
+        protected Object[] computeValue(final Class<?> type) {
+            return type.getEnumConstants();
+        }
+    };
+
+    private PropertyParsers() {
+        super();
+    }
+
+    static double parseDouble(final CharSequence text) {
+        final var start = trimStart(text, 0, text.length());
+        final var end = trimEnd(text, start, text.length());
+        final var value = parseExactly(text, start, end, false);
+
+        return Double.isNaN(value) ? Double.parseDouble(text.subSequence(start, end).toString()) : value;
+    }
+
+    static float parseFloat(final CharSequence text) {
+        final var start = trimStart(text, 0, text.length());
+        final var end = trimEnd(text, start, text.length());
+        final var value = parseExactly(text, start, end, true);
+
+        return Double.isNaN(value) ? Float.parseFloat(text.subSequence(start, end).toString()) : (float) value;
+    }
+
+    static short parseShort(final CharSequence text) {
+        final var value = parseInt(text);
+
+        if (value < Short.MIN_VALUE || value > Short.MAX_VALUE)
+            throw new NumberFormatException("Value out of range for a short: " + text);
+
+        return (short) value;
+    }
+
+    static byte parseByte(final CharSequence text) {
+        final var value = parseInt(text);
+
+        if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE)
+            throw new NumberFormatException("Value out of range for a byte: " + text);
+
+        return (byte) value;
+    }
+
+    static char parseChar(final CharSequence text) {
+        final var start = trimStart(text, 0, text.length());
+        final var end = trimEnd(text, start, text.length());
+
+        if (end - start != 1)
+            throw new IllegalArgumentException("Not a single character: " + text);
+
+        return text.charAt(start);
+    }
+
+    static int parseInt(final CharSequence text) {
+        final var start = trimStart(text, 0, text.length());
+
+        return Integer.parseInt(text, start, trimEnd(text, start, text.length()), 10);
+    }
+
+    /*
+     * An ISO-8601 duration such as PT30S, or a whole number followed by
+     * one of the units ns, us, ms, s, m, h or d. A number without a
+     * unit is taken as milliseconds.
+     */
+    static Duration parseDuration(final CharSequence text) {
+        final var start = trimStart(text, 0, text.length());
+        final var end = trimEnd(text, start, text.length());
+
+        if (start < end && (Character.toUpperCase(text.charAt(start)) == 'P' ||
+                (end - start > 1 && Character.toUpperCase(text.charAt(start + 1)) == 'P')))
+            return Duration.parse(text.subSequence(start, end));
+
+        final var unitStart = unitStart(text, start, end);
+        final var amount = Long.parseLong(text, start, trimEnd(text, start, unitStart), 10);
+
+        if (unitStart == end || unitEquals(text, unitStart, end, "ms"))
+            return Duration.ofMillis(amount);
+        else if (unitEquals(text, unitStart, end, "s"))
+            return Duration.ofSeconds(amount);
+        else if (unitEquals(text, unitStart, end, "m"))
+            return Duration.ofMinutes(amount);
+        else if (unitEquals(text, unitStart, end, "h"))
+            return Duration.ofHours(amount);
+        else if (unitEquals(text, unitStart, end, "d"))
+            return Duration.ofDays(amount);
+        else if (unitEquals(text, unitStart, end, "us"))
+            return Duration.of(amount, ChronoUnit.MICROS);
+        else if (unitEquals(text, unitStart, end, "ns"))
+            return Duration.ofNanos(amount);
+
+        throw new IllegalArgumentException("Unknown duration unit: " + text);
+    }
+
+    /*
+     * A whole number of bytes optionally followed by B, KB, MB, GB or TB,
+     * or by K, M, G or T. The multiples are powers of 1024.
+     */
+    static long parseDataSize(final CharSequence text) {
+        final var start = trimStart(text, 0, text.length());
+        final var end = trimEnd(text, start, text.length());
+        final var unitStart = unitStart(text, start, end);
+        final var amount = Long.parseLong(text, start, trimEnd(text, start, unitStart), 10);
+
+        var unitEnd = end;
+
+        if (unitEnd - unitStart > 1 && Character.toUpperCase(text.charAt(unitEnd - 1)) == 'B')
+            unitEnd--;
+
+        final int shift;
+
+        if (unitStart == unitEnd || unitEquals(text, unitStart, unitEnd, "b"))
+            shift = 0;
+        else if (unitEquals(text, unitStart, unitEnd, "k"))
+            shift = 10;
+        else if (unitEquals(text, unitStart, unitEnd, "m"))
+            shift = 20;
+        else if (unitEquals(text, unitStart, unitEnd, "g"))
+            shift = 30;
+        else if (unitEquals(text, unitStart, unitEnd, "t"))
+            shift = 40;
+        else
+            throw new IllegalArgumentException("Unknown data size unit: " + text);
+
+        if (shift != 0 && Math.abs(amount) > (Long.MAX_VALUE >> shift))
+            throw new NumberFormatException("Data size out of range: " + text);
+
+        return amount << shift;
+    }
+
+    /* Matches the name of a constant, preferring an exact match to one that ignores case */
+    static Object parseEnum(final Class<?> enumType, final CharSequence text) {
+        final var constants = ENUM_CONSTANTS.get(enumType);
+
+        if (constants == null)
+            throw new IllegalArgumentException("Not an enum type: " + enumType.getName());
+
+        final var start = trimStart(text, 0, text.length());
+        final var end = trimEnd(text, start, text.length());
+
+        for (final var constant : constants) {
+            if (regionEquals(((Enum<?>) constant).name(), text, start, end, false))
+                return constant;
+        }
+
+        for (final var constant : constants) {
+            if (regionEquals(((Enum<?>) constant).name(), text, start, end, true))
+                return constant;
+        }
+
+        throw new IllegalArgumentException("No constant of " + enumType.getName() + " named: " + text);
+    }
+
+    /* Comma-separated values; an empty value is an empty array */
+    static int[] parseIntArray(final CharSequence text) {
+        final var start = trimStart(text, 0, text.length());
+        final var end = trimEnd(text, start, text.length());
+        final var values = new int[countElements(text, start, end)];
+
+        var elementStart = start;
+
+        for (int i = 0; i < values.length; i++) {
+            final var elementEnd = indexOf(text, ',', elementStart, end);
+            final var valueStart = trimStart(text, elementStart, elementEnd);
+
+            values[i] = Integer.parseInt(text, valueStart, trimEnd(text, valueStart, elementEnd), 10);
+            elementStart = elementEnd + 1;
+        }
+
+        return values;
+    }
+
+    static long[] parseLongArray(final CharSequence text) {
+        final var start = trimStart(text, 0, text.length());
+        final var end = trimEnd(text, start, text.length());
+        final var values = new long[countElements(text, start, end)];
+
+        var elementStart = start;
+
+        for (int i = 0; i < values.length; i++) {
+            final var elementEnd = indexOf(text, ',', elementStart, end);
+            final var valueStart = trimStart(text, elementStart, elementEnd);
+
+            values[i] = Long.parseLong(text, valueStart, trimEnd(text, valueStart, elementEnd), 10);
+            elementStart = elementEnd + 1;
+        }
+
+        return values;
+    }
+
+    static String[] parseStringArray(final CharSequence text) {
+        final var start = trimStart(text, 0, text.length());
+        final var end = trimEnd(text, start, text.length());
+        final var values = new String[countElements(text, start, end)];
+
+        var elementStart = start;
+
+        for (int i = 0; i < values.length; i++) {
+            final var elementEnd = indexOf(text, ',', elementStart, end);
+            final var valueStart = trimStart(text, elementStart, elementEnd);
+
+            values[i] = text.subSequence(valueStart, trimEnd(text, valueStart, elementEnd)).toString();
+            elementStart = elementEnd + 1;
+        }
+
+        return values;
+    }
+
+    /*
+     * Clinger's fast path: a decimal whose significand and power of ten
+     * are both exactly representable is computed with one exactly rounded
+     * multiplication or division. Returns NaN for every other input so
+     * that the caller can fall back to the full parser.
+     */
+    private static double parseExactly(final CharSequence text, final int start, final int end, final boolean single) {
+        var i = start;
+        var negative = false;
+
+        if (i < end && (text.charAt(i) == '+' || text.charAt(i) == '-')) {
+            negative = text.charAt(i) == '-';
+            i++;
+        }
+
+        long significand = 0;
+        int significantDigits = 0;
+        int exponent = 0;
+        boolean digits = false;
+        boolean fraction = false;
+
+        for (; i < end; i++) {
+            final var c = text.charAt(i);
+
+            if (c >= '0' && c <= '9') {
+                digits = true;
+
+                if (fraction)
+                    exponent--;
+
+                if (significand == 0 && c == '0')
+                    continue;
+
+                if (++significantDigits > 18)
+                    return Double.NaN;
+
+                significand = significand * 10 + (c - '0');
+            } else if (c == '.' && !fraction) {
+                fraction = true;
+            } else {
+                break;
+            }
+        }
+
+        if (!digits)
+            return Double.NaN;
+
+        if (i < end && (text.charAt(i) == 'e' || text.charAt(i) == 'E')) {
+            i++;
+
+            var negativeExponent = false;
+
+            if (i < end && (text.charAt(i) == '+' || text.charAt(i) == '-')) {
+                negativeExponent = text.charAt(i) == '-';
+                i++;
+            }
+
+            int explicitExponent = 0;
+            boolean exponentDigits = false;
+
+            for (; i < end && text.charAt(i) >= '0' && text.charAt(i) <= '9'; i++) {
+                exponentDigits = true;
+
+                if (explicitExponent < 1000)
+                    explicitExponent = explicitExponent * 10 + (text.charAt(i) - '0');
+            }
+
+            if (!exponentDigits)
+                return Double.NaN;
+
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+
+        if (i != end)
+            return Double.NaN;
+
+        final double value;
+
+        if (single) {
+            if (significand > (1L << 24) || Math.abs(exponent) >= FLOAT_POWERS_OF_TEN.length)
+                return Double.NaN;
+
+            value = exponent >= 0
+                    ? (float) significand * FLOAT_POWERS_OF_TEN[exponent]
+                    : (float) significand / FLOAT_POWERS_OF_TEN[-exponent];
+        } else {
+            if (significand > (1L << 53) || Math.abs(exponent) >= DOUBLE_POWERS_OF_TEN.length)
+                return Double.NaN;
+
+            value = exponent >= 0
+                    ? (double) significand * DOUBLE_POWERS_OF_TEN[exponent]
+                    : (double) significand / DOUBLE_POWERS_OF_TEN[-exponent];
+        }
+
+        return negative ? -value : value;
+    }
+
+    private static int countElements(final CharSequence text, final int start, final int end) {
+        if (start == end)
+            return 0;
+
+        var count = 1;
+
+        for (int i = start; i < end; i++) {
+            if (text.charAt(i) == ',')
+                count++;
+        }
+
+        return count;
+    }
+
+    private static int indexOf(final CharSequence text, final char c, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            if (text.charAt(i) == c)
+                return i;
+        }
+
+        return end;
+    }
+
+    private static int unitStart(final CharSequence text, final int start, final int end) {
+        var unitStart = end;
+
+        while (unitStart > start && Character.isLetter(text.charAt(unitStart - 1)))
+            unitStart--;
+
+        return unitStart;
+    }
+
+    private static boolean unitEquals(final CharSequence text, final int start, final int end, final String unit) {
+        return regionEquals(unit, text, start, end, true);
+    }
+
+    private static boolean regionEquals(final String expected, final CharSequence text, final int start, final int end, final boolean ignoreCase) {
+        if (end - start != expected.length())
+            return false;
+
+        for (int i = 0; i < expected.length(); i++) {
+            final var c = text.charAt(start + i);
+            final var e = expected.charAt(i);
+
+            if (c != e && (!ignoreCase || Character.toUpperCase(c) != Character.toUpperCase(e)))
+                return false;
+        }
+
+        return true;
+    }
+
+    private static int trimStart(final CharSequence text, final int start, final int end) {
+        var i = start;
+
+        while (i < end && Character.isWhitespace(text.charAt(i)))
+            i++;
+
+        return i;
+    }
+
+    private static int trimEnd(final CharSequence text, final int start, final int end) {
+        var i = end;
+
+        while (i > start && Character.isWhitespace(text.charAt(i - 1)))
+            i--;
+
+        return i;
+    }
+}
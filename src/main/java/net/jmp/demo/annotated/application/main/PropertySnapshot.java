@@ -0,0 +1,115 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)PropertySnapshot.java       0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+
+/*
+ * An immutable view of the application properties. Reads
+ * need no locking, unlike the Hashtable behind Properties.
+ */
+final class PropertySnapshot {
+    static final PropertySnapshot EMPTY = new PropertySnapshot(new Properties());
+
+    private final Map<String, PropertyValue> values;
+
+    PropertySnapshot(final Properties properties) {
+        super();
+
+        assert properties != null;
+
+        final var parsedValues = new HashMap<String, PropertyValue>();
+
+        for (final var name : properties.stringPropertyNames())
+            parsedValues.put(name, new PropertyValue(properties.getProperty(name)));
+
+        this.values = Map.copyOf(parsedValues);
+    }
+
+    PropertySnapshot(final Map<String, String> properties) {
+        super();
+
+        assert properties != null;
+
+        final var parsedValues = new HashMap<String, PropertyValue>();
+
+        properties.forEach((name, value) -> parsedValues.put(name, new PropertyValue(value)));
+
+        this.values = Map.copyOf(parsedValues);
+    }
+
+    Optional<PropertyValue> get(final String name) {
+        return Optional.ofNullable(this.values.get(name));
+    }
+
+    boolean containsKey(final String name) {
+        return this.values.containsKey(name);
+    }
+
+    /* Returns the names of properties added, removed or changed in the other snapshot */
+    Set<String> getChangedKeys(final PropertySnapshot other) {
+        assert other != null;
+
+        final var changedKeys = new HashSet<String>();
+
+        for (final var entry : this.values.entrySet()) {
+            final var otherValue = other.values.get(entry.getKey());
+
+            if (otherValue == null || !otherValue.getString().equals(entry.getValue().getString()))
+                changedKeys.add(entry.getKey());
+        }
+
+        for (final var name : other.values.keySet()) {
+            if (!this.values.containsKey(name))
+                changedKeys.add(name);
+        }
+
+        return Set.copyOf(changedKeys);
+    }
+
+    boolean isEmpty() {
+        return this.values.isEmpty();
+    }
+
+    int size() {
+        return this.values.size();
+    }
+
+    @Override
+    public String toString() {
+        return "PropertySnapshot[" + this.values.size() + " properties]";
+    }
+}
@@ -0,0 +1,239 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)PropertySources.java        0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
+
+import java.nio.file.Path;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import java.util.function.Predicate;
+
+import net.jmp.demo.annotated.application.annotations.AppConfig;
+
+import org.slf4j.LoggerFactory;
+
+import org.slf4j.ext.XLogger;
+
+/*
+ * The sources of the application properties, merged from the lowest
+ * to the highest precedence:
+ *
+ *   1. the classpath resource of defaults
+ *   2. the configuration files, each overriding the ones before it
+ *   3. environment variables
+ *   4. system properties
+ *   5. command-line arguments of the form --key=value
+ *
+ * Environment variables and system properties are consulted for every
+ * key referenced by an annotated field, whether or not the resource or
+ * the files define it. The variable of a key is its upper-cased name
+ * with '.' and '-' replaced by '_'. Only the referenced keys are kept
+ * from the resource and files. When the referenced keys are unknown
+ * (null) every key is kept, and environment variables and system
+ * properties override only the keys the resource or files define.
+ *
+ * A @SystemProperty field is resolved against the same overrides: a
+ * command-line argument, then the system property, then the environment
+ * variable. The resource and files do not supply system properties.
+ */
+final class PropertySources {
+    private static final String ARGUMENT_PREFIX = "--";
+
+    private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
+    private final String defaultsResourceName;
+    private final List<String> configFileNames;
+    private final Map<String, String> environment;
+    private final Properties systemProperties;
+    private final Map<String, String> arguments;
+    private final Set<String> referencedKeys;
+
+    PropertySources(
+            final String defaultsResourceName,
+            final List<String> configFileNames,
+            final Map<String, String> environment,
+            final Properties systemProperties,
+            final Map<String, String> arguments,
+            final Set<String> referencedKeys) {
+        super();
+
+        this.defaultsResourceName = defaultsResourceName;
+        this.configFileNames = List.copyOf(configFileNames);
+        this.environment = environment;
+        this.systemProperties = systemProperties;
+        this.arguments = arguments;
+        this.referencedKeys = referencedKeys != null ? Set.copyOf(referencedKeys) : null;
+    }
+
+    /* The sources of an application, which need not be annotated with @AppConfig */
+    static PropertySources of(final Class<?> applicationClass, final List<String> arguments, final Set<String> referencedKeys) {
+        assert applicationClass != null;
+        assert arguments != null;
+
+        final var appConfig = applicationClass.getAnnotation(AppConfig.class);
+        final var configFileNames = new ArrayList<String>();
+
+        var defaultsResourceName = "";
+
+        if (appConfig != null) {
+            defaultsResourceName = appConfig.defaultsResourceName();
+
+            configFileNames.add(appConfig.configFileName());
+            configFileNames.addAll(List.of(appConfig.additionalConfigFileNames()));
+            configFileNames.removeIf(String::isBlank);
+        }
+
+        return new PropertySources(
+                defaultsResourceName,
+                configFileNames,
+                System.getenv(),
+                System.getProperties(),
+                parseArguments(arguments),
+                referencedKeys
+        );
+    }
+
+    /* Arguments other than --key=value, or --key meaning true, are ignored */
+    static Map<String, String> parseArguments(final List<String> arguments) {
+        final var properties = new HashMap<String, String>();
+
+        for (final var argument : arguments) {
+            if (argument.startsWith(ARGUMENT_PREFIX) && argument.length() > ARGUMENT_PREFIX.length()) {
+                final var separator = argument.indexOf('=');
+
+                if (separator < 0)
+                    properties.put(argument.substring(ARGUMENT_PREFIX.length()), "true");
+                else if (separator > ARGUMENT_PREFIX.length())
+                    properties.put(argument.substring(ARGUMENT_PREFIX.length(), separator), argument.substring(separator + 1));
+            }
+        }
+
+        return Map.copyOf(properties);
+    }
+
+    static String toEnvironmentName(final String key) {
+        return key.toUpperCase(Locale.ROOT).replace('.', '_').replace('-', '_');
+    }
+
+    /* Reads every source again and merges them */
+    Map<String, String> load() {
+        this.logger.entry();
+
+        final var properties = new HashMap<String, String>();
+        final Predicate<String> retainedKeys = this.referencedKeys != null ? this.referencedKeys::contains : key -> true;
+        final var reader = new PropertyFileReader(retainedKeys);
+
+        if (!this.defaultsResourceName.isBlank())
+            this.loadResource(reader, properties);
+
+        for (final var configFileName : this.configFileNames)
+            this.loadFile(reader, properties, configFileName);
+
+        final var overriddenKeys = new HashSet<>(properties.keySet());
+
+        if (this.referencedKeys != null)
+            overriddenKeys.addAll(this.referencedKeys);
+
+        for (final var key : overriddenKeys) {
+            var value = this.systemProperties.getProperty(key);
+
+            if (value == null)
+                value = this.environment.get(toEnvironmentName(key));
+
+            if (value != null)
+                properties.put(key, value);
+        }
+
+        properties.putAll(this.arguments);
+
+        this.logger.exit(properties.size());
+
+        return properties;
+    }
+
+    /* The value of a @SystemProperty key, or null when no source defines it */
+    String getSystemProperty(final String key) {
+        assert key != null;
+
+        var value = this.arguments.get(key);
+
+        if (value == null)
+            value = this.systemProperties.getProperty(key);
+
+        if (value == null)
+            value = this.environment.get(toEnvironmentName(key));
+
+        return value;
+    }
+
+    List<String> getConfigFileNames() {
+        return this.configFileNames;
+    }
+
+    private void loadResource(final PropertyFileReader reader, final Map<String, String> properties) {
+        final var contextClassLoader = Thread.currentThread().getContextClassLoader();
+        final var classLoader = contextClassLoader != null ? contextClassLoader : this.getClass().getClassLoader();
+
+        try (final var inputStream = classLoader.getResourceAsStream(this.defaultsResourceName)) {
+            if (inputStream != null) {
+                reader.read(ByteBuffer.wrap(inputStream.readAllBytes()), properties);
+
+                this.logger.debug("Loaded default application properties from resource: {}", this.defaultsResourceName);
+            } else {
+                this.logger.warn("Default application properties not found: {}", this.defaultsResourceName);
+            }
+        } catch (final IOException ioe) {
+            this.logger.catching(ioe);
+        }
+    }
+
+    private void loadFile(final PropertyFileReader reader, final Map<String, String> properties, final String configFileName) {
+        this.logger.debug("Loading application properties from configuration file: {}", configFileName);
+
+        try {
+            reader.read(Path.of(configFileName), properties);
+
+            this.logger.debug("Done loading application properties");
+        } catch (final IOException ioe) {
+            this.logger.catching(ioe);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)PropertyValue.java          0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * A property value parsed once, when the configuration is
+ * loaded, into every primitive form it can take. The
+ * primitives are held unboxed.
+ */
+final class PropertyValue {
+    private static final byte NOT_BOOLEAN = -1;
+    private static final byte FALSE = 0;
+    private static final byte TRUE = 1;
+
+    private final String string;
+    private final boolean blank;
+    private final boolean isInteger;
+    private final int integerValue;
+    private final boolean isLong;
+    private final long longValue;
+    private final byte booleanValue;
+
+    PropertyValue(final String string) {
+        super();
+
+        assert string != null;
+
+        this.string = string;
+        this.blank = string.isBlank();
+
+        long parsedLong = 0L;
+        boolean parsedAsLong = false;
+
+        /* Only a string of digits can overflow, so most values never throw */
+
+        if (isNumeric(string)) {
+            try {
+                parsedLong = Long.parseLong(string);
+                parsedAsLong = true;
+            } catch (final NumberFormatException nfe) {
+                // Out of range
+            }
+        }
+
+        this.isLong = parsedAsLong;
+        this.longValue = parsedLong;
+        this.isInteger = parsedAsLong && parsedLong >= Integer.MIN_VALUE && parsedLong <= Integer.MAX_VALUE;
+        this.integerValue = this.isInteger ? (int) parsedLong : 0;
+
+        if ("true".equalsIgnoreCase(string) || "yes".equalsIgnoreCase(string))
+            this.booleanValue = TRUE;
+        else if ("false".equalsIgnoreCase(string) || "no".equalsIgnoreCase(string))
+            this.booleanValue = FALSE;
+        else
+            this.booleanValue = NOT_BOOLEAN;
+    }
+
+    /* An optional sign followed by the digits Long.parseLong accepts */
+    private static boolean isNumeric(final String string) {
+        final var length = string.length();
+        final var start = length > 0 && (string.charAt(0) == '-' || string.charAt(0) == '+') ? 1 : 0;
+
+        if (start == length)
+            return false;
+
+        for (int i = start; i < length; i++) {
+            if (Character.digit(string.charAt(i), 10) < 0)
+                return false;
+        }
+
+        return true;
+    }
+
+    String getString() {
+        return this.string;
+    }
+
+    boolean isBlank() {
+        return this.blank;
+    }
+
+    boolean isInteger() {
+        return this.isInteger;
+    }
+
+    int getInteger() {
+        return this.integerValue;
+    }
+
+    boolean isLong() {
+        return this.isLong;
+    }
+
+    long getLong() {
+        return this.longValue;
+    }
+
+    boolean isBoolean() {
+        return this.booleanValue != NOT_BOOLEAN;
+    }
+
+    boolean getBoolean() {
+        return this.booleanValue == TRUE;
+    }
+
+    @Override
+    public String toString() {
+        return this.string;
+    }
+}
@@ -0,0 +1,269 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)ScanCache.java              0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import java.nio.charset.StandardCharsets;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+import net.jmp.demo.annotated.application.records.AnnotatedField;
+import net.jmp.demo.annotated.application.records.ScanResults;
+
+import org.slf4j.LoggerFactory;
+
+import org.slf4j.ext.XLogger;
+
+/*
+ * Scan results kept on disk between runs. The file name carries a
+ * key, naming the scope and classpath entries that were scanned, and
+ * a fingerprint of their sizes and modification times, so any change
+ * to them misses the cache. A class directory is fingerprinted by the
+ * relative path, size and modification time of each of its files. Writing a file replaces only the earlier
+ * files with the same key.
+ */
+final class ScanCache {
+    static final String CACHE_DIRECTORY_PROPERTY = "annotated.application.scan.cacheDir";
+
+    private static final String FILE_PREFIX = "scan-";
+    private static final String FILE_SUFFIX = ".bin";
+    private static final int MAGIC = 0x41415343;
+    private static final int FORMAT_VERSION = 2;
+    private static final int KEY_LENGTH = 8;
+
+    private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
+    private final Path directory;
+    private final String key;
+    private final Path cacheFile;
+
+    ScanCache(final Path directory, final String key, final String fingerprint) {
+        super();
+
+        assert directory != null;
+        assert key != null;
+        assert fingerprint != null;
+
+        this.directory = directory;
+        this.key = key;
+        this.cacheFile = directory.resolve(FILE_PREFIX + key + '-' + fingerprint + FILE_SUFFIX);
+    }
+
+    /* Returns a cache for the given roots when a cache directory is configured */
+    static Optional<ScanCache> fromSystemProperties(final ScanScope scope, final File[] roots) {
+        final var directory = System.getProperty(CACHE_DIRECTORY_PROPERTY);
+
+        if (directory == null || directory.isBlank())
+            return Optional.empty();
+
+        return Optional.of(new ScanCache(Path.of(directory), key(scope, roots), fingerprint(scope, roots)));
+    }
+
+    /* Identifies what was scanned, without reading the entries */
+    static String key(final ScanScope scope, final File[] roots) {
+        try {
+            final var digest = MessageDigest.getInstance("SHA-256");
+
+            digest.update(scope.toString().getBytes(StandardCharsets.UTF_8));
+
+            for (final var root : roots)
+                digest.update(root.getAbsolutePath().getBytes(StandardCharsets.UTF_8));
+
+            return HexFormat.of().formatHex(digest.digest(), 0, KEY_LENGTH);
+        } catch (final NoSuchAlgorithmException nsae) {
+            throw new IllegalStateException(nsae);
+        }
+    }
+
+    static String fingerprint(final ScanScope scope, final File[] roots) {
+        try {
+            final var digest = MessageDigest.getInstance("SHA-256");
+
+            digest.update(scope.toString().getBytes(StandardCharsets.UTF_8));
+
+            for (final var root : roots) {
+                digest.update(root.getAbsolutePath().getBytes(StandardCharsets.UTF_8));
+
+                if (root.isDirectory())
+                    updateDirectory(digest, root.toPath());
+                else
+                    update(digest, root.length(), root.lastModified());
+            }
+
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (final NoSuchAlgorithmException nsae) {
+            throw new IllegalStateException(nsae);
+        }
+    }
+
+    Optional<ScanResults> read() {
+        this.logger.entry();
+
+        ScanResults results = null;
+
+        if (Files.isRegularFile(this.cacheFile)) {
+            try (final var input = new DataInputStream(new BufferedInputStream(Files.newInputStream(this.cacheFile)))) {
+                if (input.readInt() == MAGIC && input.readInt() == FORMAT_VERSION) {
+                    final var applicationClassNames = readStrings(input);
+                    final var managedClassNames = readStrings(input);
+                    final var numberOfFields = input.readInt();
+                    final var annotatedFields = new ArrayList<AnnotatedField>(numberOfFields);
+
+                    for (int i = 0; i < numberOfFields; i++)
+                        annotatedFields.add(new AnnotatedField(input.readUTF(), input.readUTF(), input.readBoolean() ? input.readUTF() : null));
+
+                    results = new ScanResults(applicationClassNames, managedClassNames, List.copyOf(annotatedFields));
+
+                    this.logger.debug("Read the scan cache: {}", this.cacheFile);
+                } else {
+                    this.logger.warn("Ignoring the unrecognized scan cache: {}", this.cacheFile);
+                }
+            } catch (final IOException ioe) {
+                this.logger.catching(ioe);
+            }
+        }
+
+        this.logger.exit(results);
+
+        return Optional.ofNullable(results);
+    }
+
+    void write(final ScanResults results) {
+        this.logger.entry(results);
+
+        try {
+            Files.createDirectories(this.directory);
+
+            final var temporaryFile = Files.createTempFile(this.directory, FILE_PREFIX, ".tmp");
+
+            try (final var output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+                output.writeInt(MAGIC);
+                output.writeInt(FORMAT_VERSION);
+
+                writeStrings(output, results.applicationClassNames());
+                writeStrings(output, results.managedClassNames());
+
+                output.writeInt(results.annotatedFields().size());
+
+                for (final var annotatedField : results.annotatedFields()) {
+                    output.writeUTF(annotatedField.className());
+                    output.writeUTF(annotatedField.fieldName());
+                    output.writeBoolean(annotatedField.applicationPropertyName() != null);
+
+                    if (annotatedField.applicationPropertyName() != null)
+                        output.writeUTF(annotatedField.applicationPropertyName());
+                }
+            }
+
+            Files.move(temporaryFile, this.cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            this.deleteStaleFiles();
+
+            this.logger.debug("Wrote the scan cache: {}", this.cacheFile);
+        } catch (final IOException | UncheckedIOException e) {
+            this.logger.catching(e);
+        }
+
+        this.logger.exit();
+    }
+
+    Path getCacheFile() {
+        return this.cacheFile;
+    }
+
+    private void deleteStaleFiles() throws IOException {
+        try (final var files = Files.newDirectoryStream(this.directory, FILE_PREFIX + this.key + "-*" + FILE_SUFFIX)) {
+            for (final var file : files) {
+                if (!file.equals(this.cacheFile))
+                    Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /* Every file's relative path, size and modification time, in path order */
+    private static void updateDirectory(final MessageDigest digest, final Path directory) {
+        try (final var files = Files.walk(directory)) {
+            final var sortedFiles = files.filter(Files::isRegularFile).sorted().toList();
+
+            for (final var file : sortedFiles) {
+                final var relativePath = directory.relativize(file).toString().replace(File.separatorChar, '/');
+                final var asFile = file.toFile();
+
+                digest.update(relativePath.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+
+                update(digest, asFile.length(), asFile.lastModified());
+            }
+        } catch (final IOException | UncheckedIOException e) {
+            update(digest, -1, -1);
+        }
+    }
+
+    private static void update(final MessageDigest digest, final long size, final long lastModified) {
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            digest.update((byte) (size >>> shift));
+            digest.update((byte) (lastModified >>> shift));
+        }
+    }
+
+    private static List<String> readStrings(final DataInputStream input) throws IOException {
+        final var count = input.readInt();
+        final var strings = new ArrayList<String>(count);
+
+        for (int i = 0; i < count; i++)
+            strings.add(input.readUTF());
+
+        return List.copyOf(strings);
+    }
+
+    private static void writeStrings(final DataOutputStream output, final List<String> strings) throws IOException {
+        output.writeInt(strings.size());
+
+        for (final var string : strings)
+            output.writeUTF(string);
+    }
+}
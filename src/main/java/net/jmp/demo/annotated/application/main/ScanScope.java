@@ -0,0 +1,155 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)ScanScope.java              0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.File;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import net.jmp.demo.annotated.application.records.AnnotatedField;
+import net.jmp.demo.annotated.application.records.ScanResults;
+
+/*
+ * The packages and classpath entries searched for annotations.
+ * Dependency jars that cannot hold application classes are
+ * skipped unless a jar list names them.
+ */
+final class ScanScope {
+    static final String PACKAGES_PROPERTY = "annotated.application.scan.packages";
+    static final String JARS_PROPERTY = "annotated.application.scan.jars";
+    static final String EXCLUDES_PROPERTY = "annotated.application.scan.excludes";
+
+    static final List<String> DEFAULT_EXCLUDES = List.of(
+            "annotation-detector-",
+            "commons-math3-",
+            "hamcrest-",
+            "jmh-",
+            "jopt-simple-",
+            "junit-",
+            "logback-",
+            "slf4j-"
+    );
+
+    private final List<String> packageNames;
+    private final List<String> jarNames;
+    private final List<String> excludes;
+
+    ScanScope(final List<String> packageNames, final List<String> jarNames, final List<String> excludes) {
+        super();
+
+        assert packageNames != null;
+        assert jarNames != null;
+        assert excludes != null;
+
+        this.packageNames = List.copyOf(packageNames);
+        this.jarNames = List.copyOf(jarNames);
+        this.excludes = List.copyOf(excludes);
+    }
+
+    static ScanScope fromSystemProperties() {
+        final var excludes = new ArrayList<>(DEFAULT_EXCLUDES);
+
+        excludes.addAll(split(System.getProperty(EXCLUDES_PROPERTY)));
+
+        return new ScanScope(
+                split(System.getProperty(PACKAGES_PROPERTY)),
+                split(System.getProperty(JARS_PROPERTY)),
+                excludes
+        );
+    }
+
+    boolean hasPackageNames() {
+        return !this.packageNames.isEmpty();
+    }
+
+    String[] getPackageNames() {
+        return this.packageNames.toArray(new String[0]);
+    }
+
+    /* Returns the entries of the given class path that are within scope */
+    File[] getRoots(final String classPath) {
+        return Arrays.stream(classPath.split(File.pathSeparator))
+                .filter(entry -> !entry.isBlank())
+                .map(File::new)
+                .filter(this::includesRoot)
+                .toArray(File[]::new);
+    }
+
+    boolean includesRoot(final File root) {
+        final var name = root.getName();
+
+        if (!name.endsWith(".jar"))
+            return true;
+
+        if (!this.jarNames.isEmpty())
+            return this.jarNames.stream().anyMatch(name::startsWith);
+
+        return this.excludes.stream().noneMatch(name::startsWith);
+    }
+
+    boolean includesClass(final String className) {
+        return this.packageNames.isEmpty() ||
+                this.packageNames.stream().anyMatch(packageName -> className.startsWith(packageName + '.'));
+    }
+
+    /* Removes the classes outside the configured packages from indexed results */
+    ScanResults filter(final ScanResults scanResults) {
+        if (this.packageNames.isEmpty())
+            return scanResults;
+
+        return new ScanResults(
+                scanResults.applicationClassNames().stream().filter(this::includesClass).toList(),
+                scanResults.managedClassNames().stream().filter(this::includesClass).toList(),
+                scanResults.annotatedFields().stream().filter(this::includesField).toList()
+        );
+    }
+
+    private boolean includesField(final AnnotatedField annotatedField) {
+        return this.includesClass(annotatedField.className());
+    }
+
+    private static List<String> split(final String value) {
+        if (value == null || value.isBlank())
+            return List.of();
+
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(element -> !element.isEmpty())
+                .toList();
+    }
+
+    @Override
+    public String toString() {
+        return "ScanScope[packages=" + this.packageNames + ", jars=" + this.jarNames + ", excludes=" + this.excludes + "]";
+    }
+}
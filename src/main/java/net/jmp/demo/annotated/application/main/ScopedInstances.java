@@ -0,0 +1,184 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)ScopedInstances.java        0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import net.jmp.demo.annotated.application.exceptions.PropertyInjectionException;
+
+/*
+ * The instances held for one managed class on behalf of its scope:
+ * the singleton, the instance of each thread, or the idle pooled
+ * instances. Prototype classes hold nothing here. Borrowed pooled
+ * instances are tracked by identity until they are released, so
+ * that only an outstanding instance can be returned to the pool.
+ * The pool size limits only the idle instances; borrowing never
+ * blocks. Borrowed instances are tracked weakly, so one that is
+ * never released can still be garbage collected.
+ */
+final class ScopedInstances {
+    private final ThreadLocal<Object> threadInstance = new ThreadLocal<>();
+    private final BlockingQueue<Object> pool;
+    private final Set<BorrowedReference> borrowed = new HashSet<>();
+    private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+
+    private volatile Object singleton;
+
+    ScopedInstances(final int poolSize) {
+        super();
+
+        this.pool = new ArrayBlockingQueue<>(Math.max(1, poolSize));
+    }
+
+    Object getSingleton(final Creator creator) throws PropertyInjectionException {
+        var instance = this.singleton;
+
+        if (instance == null) {
+            synchronized (this) {
+                instance = this.singleton;
+
+                if (instance == null) {
+                    instance = creator.create();
+
+                    this.singleton = instance;
+                }
+            }
+        }
+
+        return instance;
+    }
+
+    Object getThreadInstance(final Creator creator) throws PropertyInjectionException {
+        var instance = this.threadInstance.get();
+
+        if (instance == null) {
+            instance = creator.create();
+
+            if (instance != null)
+                this.threadInstance.set(instance);
+        }
+
+        return instance;
+    }
+
+    /* Takes an idle instance from the pool, creating one when the pool is empty */
+    Object borrow(final Creator creator) throws PropertyInjectionException {
+        var instance = this.pool.poll();
+
+        if (instance == null)
+            instance = creator.create();
+
+        if (instance != null) {
+            synchronized (this.borrowed) {
+                this.expungeCollected();
+                this.borrowed.add(new BorrowedReference(instance, this.collected));
+            }
+        }
+
+        return instance;
+    }
+
+    /* Returns false if the instance is not outstanding: never borrowed, or already released */
+    boolean endBorrowing(final Object instance) {
+        synchronized (this.borrowed) {
+            this.expungeCollected();
+
+            return this.borrowed.remove(new BorrowedReference(instance, null));
+        }
+    }
+
+    /* Returns false if the pool is full and the instance was dropped */
+    boolean release(final Object instance) {
+        return this.pool.offer(instance);
+    }
+
+    int getBorrowedCount() {
+        synchronized (this.borrowed) {
+            this.expungeCollected();
+
+            return this.borrowed.size();
+        }
+    }
+
+    int getIdleCount() {
+        return this.pool.size();
+    }
+
+    /* Drops the references of borrowed instances that were collected without being released */
+    private void expungeCollected() {
+        Reference<?> reference;
+
+        while ((reference = this.collected.poll()) != null)
+            this.borrowed.remove(reference);
+    }
+
+    @FunctionalInterface
+    interface Creator {
+        Object create() throws PropertyInjectionException;
+    }
+
+    /* Equal only to a reference to the same instance, or to itself once cleared */
+    private static final class BorrowedReference extends WeakReference<Object> {
+        private final int hashCode;
+
+        private BorrowedReference(final Object instance, final ReferenceQueue<Object> queue) {
+            super(instance, queue);
+
+            this.hashCode = System.identityHashCode(instance);
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            if (this == object)
+                return true;
+
+            if (!(object instanceof BorrowedReference other))
+                return false;
+
+            final var instance = this.get();
+
+            return instance != null && instance == other.get();
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+    }
+}
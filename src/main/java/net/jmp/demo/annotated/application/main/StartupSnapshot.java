@@ -0,0 +1,108 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)StartupSnapshot.java        0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.File;
+
+import java.nio.file.Path;
+
+import java.util.Optional;
+
+import net.jmp.demo.annotated.application.records.ScanResults;
+
+import org.slf4j.LoggerFactory;
+
+import org.slf4j.ext.XLogger;
+
+/*
+ * The output of a training run: the scan results, which later runs
+ * read instead of scanning the classpath. The scan results are
+ * keyed like the scan cache, by the scan scope and the path, size and
+ * modification time of every scanned entry, so a rebuilt jar or a
+ * changed scope is scanned again.
+ */
+final class StartupSnapshot {
+    static final String SNAPSHOT_DIRECTORY_PROPERTY = "annotated.application.snapshotDir";
+    static final String TRAINING_PROPERTY = "annotated.application.training";
+
+    private final XLogger logger = new XLogger(LoggerFactory.getLogger(this.getClass().getName()));
+    private final Path directory;
+    private final boolean training;
+    private final ScanCache scanCache;
+
+    StartupSnapshot(final Path directory, final boolean training, final ScanScope scope, final File[] roots) {
+        super();
+
+        assert directory != null;
+        assert scope != null;
+        assert roots != null;
+
+        this.directory = directory;
+        this.training = training;
+        this.scanCache = new ScanCache(directory, ScanCache.key(scope, roots), ScanCache.fingerprint(scope, roots));
+    }
+
+    /* Returns a snapshot when a snapshot directory is configured */
+    static Optional<StartupSnapshot> fromSystemProperties() {
+        final var directory = System.getProperty(SNAPSHOT_DIRECTORY_PROPERTY);
+
+        if (directory == null || directory.isBlank())
+            return Optional.empty();
+
+        final var scope = ScanScope.fromSystemProperties();
+
+        return Optional.of(new StartupSnapshot(
+                Path.of(directory),
+                Boolean.getBoolean(TRAINING_PROPERTY),
+                scope,
+                scope.getRoots(System.getProperty("java.class.path", "")))
+        );
+    }
+
+    boolean isTraining() {
+        return this.training;
+    }
+
+    Optional<ScanResults> readScanResults() {
+        return this.scanCache.read();
+    }
+
+    void write(final ScanResults scanResults) {
+        this.logger.entry(scanResults);
+
+        assert scanResults != null;
+
+        this.scanCache.write(scanResults);
+
+        this.logger.info("Wrote the startup snapshot to: {}", this.directory);
+        this.logger.exit();
+    }
+}
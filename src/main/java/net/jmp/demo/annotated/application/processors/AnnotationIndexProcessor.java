@@ -0,0 +1,165 @@
+package net.jmp.demo.annotated.application.processors;
+
+/*
+ * (#)AnnotationIndexProcessor.java0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+
+import javax.lang.model.SourceVersion;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+
+/*
+ * This processor deliberately refers to the annotations
+ * by name only so that it can be compiled and run ahead
+ * of the classes that declare them.
+ */
+@SupportedAnnotationTypes({
+        AnnotationIndexProcessor.APPLICATION,
+        AnnotationIndexProcessor.MANAGED_CLASS,
+        AnnotationIndexProcessor.APPLICATION_PROPERTY,
+        AnnotationIndexProcessor.SYSTEM_PROPERTY
+})
+public final class AnnotationIndexProcessor extends AbstractProcessor {
+    public static final String INDEX_FILE_NAME = "META-INF/annotated-application/annotations.idx";
+
+    public static final String APPLICATION = "net.jmp.demo.annotated.application.annotations.Application";
+    public static final String MANAGED_CLASS = "net.jmp.demo.annotated.application.annotations.ManagedClass";
+    public static final String APPLICATION_PROPERTY = "net.jmp.demo.annotated.application.annotations.ApplicationProperty";
+    public static final String SYSTEM_PROPERTY = "net.jmp.demo.annotated.application.annotations.SystemProperty";
+
+    private final Set<String> entries = new TreeSet<>();
+
+    private InjectorGenerator injectorGenerator;
+
+    public AnnotationIndexProcessor() {
+        super();
+    }
+
+    @Override
+    public synchronized void init(final ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+
+        this.injectorGenerator = new InjectorGenerator(processingEnv);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            if (!this.entries.isEmpty())
+                this.writeIndex();
+        } else {
+            for (final var annotation : annotations) {
+                final var annotationName = annotation.getQualifiedName().toString();
+
+                for (final var element : roundEnv.getElementsAnnotatedWith(annotation))
+                    this.record(annotationName, element);
+            }
+        }
+
+        return false;
+    }
+
+    private void record(final String annotationName, final Element element) {
+        if (element.getKind().isClass()) {
+            final var typeElement = (TypeElement) element;
+
+            this.entries.add(annotationName + ' ' + this.getBinaryName(typeElement));
+
+            if (annotationName.equals(MANAGED_CLASS) && this.injectorGenerator.isRequested(typeElement))
+                this.injectorGenerator.generate(typeElement);
+        } else if (element.getKind() == ElementKind.FIELD) {
+            final var enclosingType = (TypeElement) element.getEnclosingElement();
+            final var entry = annotationName + ' ' + this.getBinaryName(enclosingType) + ' ' + element.getSimpleName();
+
+            /* The property name lets the keys be known without loading the class */
+
+            final var propertyName = annotationName.equals(APPLICATION_PROPERTY) ? this.getPropertyName(element) : null;
+
+            if (propertyName != null && !propertyName.isEmpty() && propertyName.chars().noneMatch(Character::isWhitespace))
+                this.entries.add(entry + ' ' + propertyName);
+            else
+                this.entries.add(entry);
+        }
+    }
+
+    private String getPropertyName(final Element element) {
+        for (final var mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(APPLICATION_PROPERTY)) {
+                for (final var entry : mirror.getElementValues().entrySet()) {
+                    if (entry.getKey().getSimpleName().contentEquals("name"))
+                        return String.valueOf(entry.getValue().getValue());
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private String getBinaryName(final TypeElement typeElement) {
+        return this.processingEnv.getElementUtils().getBinaryName(typeElement).toString();
+    }
+
+    private void writeIndex() {
+        try {
+            final var resource = this.processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_FILE_NAME);
+
+            try (final PrintWriter writer = new PrintWriter(resource.openWriter())) {
+                writer.println("# Generated by " + this.getClass().getName() + " - do not edit");
+
+                this.entries.forEach(writer::println);
+            }
+        } catch (final IOException ioe) {
+            this.processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.ERROR,
+                    "Unable to write " + INDEX_FILE_NAME + ": " + ioe.getMessage()
+            );
+        }
+    }
+}
@@ -0,0 +1,411 @@
+package net.jmp.demo.annotated.application.processors;
+
+/*
+ * (#)InjectorGenerator.java      0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.processing.ProcessingEnvironment;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+
+import javax.lang.model.util.ElementFilter;
+
+import javax.tools.Diagnostic;
+
+/*
+ * Generates an Injector for a managed class that constructs it
+ * with new and writes its fields, including inherited ones,
+ * directly. Fields that cannot be assigned from the package are
+ * written through static final VarHandles, which the JIT treats
+ * as constants.
+ */
+public final class InjectorGenerator {
+    public static final String INJECTOR_INTERFACE = "net.jmp.demo.annotated.application.interfaces.Injector";
+    public static final String INJECTOR_SUFFIX = "_Injector";
+
+    private final ProcessingEnvironment processingEnv;
+
+    InjectorGenerator(final ProcessingEnvironment processingEnv) {
+        super();
+
+        this.processingEnv = processingEnv;
+    }
+
+    /**
+     * Return the binary name of the injector
+     * generated for the managed class.
+     *
+     * @param	managedClassName	java.lang.String
+     * @return	java.lang.String
+     */
+    public static String getInjectorClassName(final String managedClassName) {
+        final var lastDot = managedClassName.lastIndexOf('.');
+        final var packagePrefix = managedClassName.substring(0, lastDot + 1);
+        final var simpleName = managedClassName.substring(lastDot + 1).replace('$', '_');
+
+        return packagePrefix + simpleName + INJECTOR_SUFFIX;
+    }
+
+    boolean isRequested(final TypeElement managedClass) {
+        for (final AnnotationMirror mirror : managedClass.getAnnotationMirrors()) {
+            if (this.getName(mirror).equals(AnnotationIndexProcessor.MANAGED_CLASS)) {
+                for (final var entry : mirror.getElementValues().entrySet()) {
+                    if (entry.getKey().getSimpleName().contentEquals("generateInjector"))
+                        return Boolean.TRUE.equals(entry.getValue().getValue());
+                }
+            }
+        }
+
+        return false;
+    }
+
+    void generate(final TypeElement managedClass) {
+        if (!this.isGeneratable(managedClass))
+            return;
+
+        final var fields = new ArrayList<VariableElement>();
+        final var packageElement = this.processingEnv.getElementUtils().getPackageOf(managedClass);
+
+        /* Inherited fields are injected too, as the reflective path does */
+
+        for (var declaringClass = managedClass; declaringClass != null; declaringClass = this.getSuperclass(declaringClass)) {
+            for (final var field : ElementFilter.fieldsIn(declaringClass.getEnclosedElements())) {
+                if (this.isInjected(field)) {
+                    if (field.getModifiers().contains(Modifier.FINAL) || field.getModifiers().contains(Modifier.STATIC)) {
+                        this.warn(managedClass, "Injector not generated; injected field '" + field.getSimpleName() + "' is final or static");
+
+                        return;
+                    }
+
+                    if (!this.isAccessible(declaringClass, packageElement)) {
+                        this.warn(managedClass, "Injector not generated; superclass " + declaringClass.getQualifiedName() + " is not accessible from its package");
+
+                        return;
+                    }
+
+                    fields.add(field);
+                }
+            }
+        }
+
+        final var managedClassName = this.processingEnv.getElementUtils().getBinaryName(managedClass).toString();
+        final var injectorClassName = getInjectorClassName(managedClassName);
+
+        try {
+            final var sourceFile = this.processingEnv.getFiler().createSourceFile(injectorClassName, managedClass);
+
+            try (final PrintWriter writer = new PrintWriter(sourceFile.openWriter())) {
+                this.write(writer, managedClass, injectorClassName, fields);
+            }
+        } catch (final IOException ioe) {
+            this.processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.ERROR,
+                    "Unable to write " + injectorClassName + ": " + ioe.getMessage(),
+                    managedClass
+            );
+        }
+    }
+
+    private boolean isGeneratable(final TypeElement managedClass) {
+        if (managedClass.getKind() != ElementKind.CLASS || managedClass.getModifiers().contains(Modifier.ABSTRACT)) {
+            this.warn(managedClass, "Injector not generated; not a concrete class");
+
+            return false;
+        }
+
+        if (managedClass.getModifiers().contains(Modifier.PRIVATE) ||
+                (managedClass.getNestingKind() == NestingKind.MEMBER && !managedClass.getModifiers().contains(Modifier.STATIC)) ||
+                managedClass.getNestingKind() == NestingKind.LOCAL ||
+                managedClass.getNestingKind() == NestingKind.ANONYMOUS) {
+            this.warn(managedClass, "Injector not generated; class is not accessible from its package");
+
+            return false;
+        }
+
+        final var constructor = ElementFilter.constructorsIn(managedClass.getEnclosedElements()).stream()
+                .filter(c -> c.getParameters().isEmpty())
+                .findFirst();
+
+        if (constructor.isEmpty()) {
+            this.warn(managedClass, "Injector not generated; no no-argument constructor");
+
+            return false;
+        }
+
+        if (constructor.get().getModifiers().contains(Modifier.PRIVATE)) {
+            this.warn(managedClass, "Injector not generated; the no-argument constructor is private");
+
+            return false;
+        }
+
+        return true;
+    }
+
+    private TypeElement getSuperclass(final TypeElement typeElement) {
+        final var superclass = typeElement.getSuperclass();
+
+        if (superclass.getKind() != TypeKind.DECLARED)
+            return null;
+
+        final var superElement = (TypeElement) ((DeclaredType) superclass).asElement();
+
+        return superElement.getQualifiedName().contentEquals(Object.class.getName()) ? null : superElement;
+    }
+
+    /* Whether the type, and every type enclosing it, can be named from the package */
+    private boolean isAccessible(final TypeElement typeElement, final PackageElement packageElement) {
+        final var samePackage = this.processingEnv.getElementUtils().getPackageOf(typeElement).equals(packageElement);
+
+        for (Element element = typeElement; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            final var modifiers = element.getModifiers();
+
+            if (modifiers.contains(Modifier.PRIVATE) || (!samePackage && !modifiers.contains(Modifier.PUBLIC)))
+                return false;
+        }
+
+        return true;
+    }
+
+    /* Whether the field can be assigned directly from the package */
+    private boolean isDirectlyWritable(final VariableElement field, final PackageElement packageElement) {
+        final var modifiers = field.getModifiers();
+
+        if (modifiers.contains(Modifier.PUBLIC))
+            return true;
+
+        return !modifiers.contains(Modifier.PRIVATE) &&
+                this.processingEnv.getElementUtils().getPackageOf(field).equals(packageElement);
+    }
+
+    private boolean isInjected(final Element field) {
+        for (final AnnotationMirror mirror : field.getAnnotationMirrors()) {
+            final var name = this.getName(mirror);
+
+            if (name.equals(AnnotationIndexProcessor.APPLICATION_PROPERTY) || name.equals(AnnotationIndexProcessor.SYSTEM_PROPERTY))
+                return true;
+        }
+
+        return false;
+    }
+
+    private void write(
+            final PrintWriter writer,
+            final TypeElement managedClass,
+            final String injectorClassName,
+            final List<VariableElement> fields) {
+        final var packageElement = this.processingEnv.getElementUtils().getPackageOf(managedClass);
+        final var packageName = packageElement.getQualifiedName().toString();
+        final var simpleName = injectorClassName.substring(injectorClassName.lastIndexOf('.') + 1);
+        final var typeName = managedClass.getQualifiedName().toString();
+
+        if (!packageName.isEmpty()) {
+            writer.println("package " + packageName + ";");
+            writer.println();
+        }
+
+        writer.println("@javax.annotation.processing.Generated(\"" + AnnotationIndexProcessor.class.getName() + "\")");
+        writer.println("public final class " + simpleName + " implements " + INJECTOR_INTERFACE + "<" + typeName + "> {");
+        writer.println("    private static final String[] FIELD_NAMES = {");
+
+        for (final var field : fields)
+            writer.println("            \"" + this.getBinaryName(field) + '.' + field.getSimpleName() + "\",");
+
+        writer.println("    };");
+        writer.println();
+
+        final var handledFields = fields.stream().filter(field -> !this.isDirectlyWritable(field, packageElement)).toList();
+
+        if (!handledFields.isEmpty()) {
+            for (final var field : handledFields)
+                writer.println("    private static final java.lang.invoke.VarHandle " + this.getHandleName(field) + ";");
+
+            writer.println();
+            writer.println("    static {");
+            writer.println("        try {");
+            writer.println("            final var lookup = java.lang.invoke.MethodHandles.lookup();");
+            writer.println();
+
+            for (final var field : handledFields) {
+                final var declaringTypeName = this.getDeclaringTypeName(field);
+
+                writer.println("            " + this.getHandleName(field) + " = java.lang.invoke.MethodHandles.privateLookupIn(" + declaringTypeName + ".class, lookup)");
+                writer.println("                    .findVarHandle(" + declaringTypeName + ".class, \"" + field.getSimpleName() + "\", " + this.getTypeName(field) + ".class);");
+            }
+
+            writer.println("        } catch (final ReflectiveOperationException e) {");
+            writer.println("            throw new ExceptionInInitializerError(e);");
+            writer.println("        }");
+            writer.println("    }");
+            writer.println();
+        }
+
+        writer.println("    public " + simpleName + "() {");
+        writer.println("        super();");
+        writer.println("    }");
+        writer.println();
+        writer.println("    @Override");
+        writer.println("    public " + typeName + " newInstance() {");
+        writer.println("        return new " + typeName + "();");
+        writer.println("    }");
+        writer.println();
+        writer.println("    @Override");
+        writer.println("    public String[] getFieldNames() {");
+        writer.println("        return FIELD_NAMES.clone();");
+        writer.println("    }");
+        writer.println();
+        final var suppressedWarnings = new ArrayList<String>();
+
+        if (fields.stream().anyMatch(this::isParameterized))
+            suppressedWarnings.add("\"unchecked\"");
+
+        if (fields.stream().anyMatch(field -> this.isParameterized(field) && hasTypeVariable(field.asType())))
+            suppressedWarnings.add("\"rawtypes\"");
+
+        writer.println("    @Override");
+
+        if (!suppressedWarnings.isEmpty())
+            writer.println("    @SuppressWarnings({" + String.join(", ", suppressedWarnings) + "})");
+
+        writer.println("    public void inject(final " + typeName + " instance, final Object[] values) {");
+
+        for (int i = 0; i < fields.size(); i++) {
+            final var field = fields.get(i);
+            final var value = "(" + this.getCastTypeName(field) + ") values[" + i + "]";
+
+            if (!this.isDirectlyWritable(field, packageElement))
+                writer.println("        " + this.getHandleName(field) + ".set(instance, " + value + ");");
+            else if (field.getEnclosingElement().equals(managedClass))
+                writer.println("        instance." + field.getSimpleName() + " = " + value + ";");
+            else
+                writer.println("        ((" + this.getDeclaringTypeName(field) + ") instance)." + field.getSimpleName() + " = " + value + ";");
+        }
+
+        writer.println("    }");
+        writer.println("}");
+    }
+
+    private String getTypeName(final VariableElement field) {
+        final var type = field.asType();
+
+        if (type.getKind() == TypeKind.DECLARED || type.getKind() == TypeKind.ARRAY || type.getKind() == TypeKind.TYPEVAR)
+            return this.processingEnv.getTypeUtils().erasure(type).toString();
+
+        return type.toString();
+    }
+
+    /*
+     * A parameterized type, such as the Supplier of a lazy property, is
+     * cast to its full type so that the generated source has no raw
+     * types; only a type naming a type variable of the managed class,
+     * which is not in scope in the injector, is cast to its erasure.
+     */
+    private String getCastTypeName(final VariableElement field) {
+        if (this.isParameterized(field) && !hasTypeVariable(field.asType()))
+            return field.asType().toString();
+
+        return this.getTypeName(field);
+    }
+
+    private boolean isParameterized(final VariableElement field) {
+        return field.asType() instanceof DeclaredType declaredType && !declaredType.getTypeArguments().isEmpty();
+    }
+
+    private static boolean hasTypeVariable(final TypeMirror type) {
+        return switch (type.getKind()) {
+            case TYPEVAR -> true;
+            case ARRAY -> hasTypeVariable(((ArrayType) type).getComponentType());
+            case DECLARED -> ((DeclaredType) type).getTypeArguments().stream().anyMatch(InjectorGenerator::hasTypeVariable);
+            case WILDCARD -> {
+                final var wildcardType = (WildcardType) type;
+
+                yield (wildcardType.getExtendsBound() != null && hasTypeVariable(wildcardType.getExtendsBound())) ||
+                        (wildcardType.getSuperBound() != null && hasTypeVariable(wildcardType.getSuperBound()));
+            }
+            default -> false;
+        };
+    }
+
+    private String getDeclaringTypeName(final VariableElement field) {
+        return ((TypeElement) field.getEnclosingElement()).getQualifiedName().toString();
+    }
+
+    private String getBinaryName(final VariableElement field) {
+        return this.processingEnv.getElementUtils().getBinaryName((TypeElement) field.getEnclosingElement()).toString();
+    }
+
+    /* Qualified by the declaring class so that a shadowed field gets its own handle */
+    private String getHandleName(final VariableElement field) {
+        final var handleName = new StringBuilder();
+
+        for (final var c : this.getBinaryName(field).toCharArray())
+            handleName.append(Character.isJavaIdentifierPart(c) ? Character.toUpperCase(c) : '_');
+
+        handleName.append("__");
+
+        final var name = field.getSimpleName().toString();
+
+        for (int i = 0; i < name.length(); i++) {
+            final var c = name.charAt(i);
+
+            if (Character.isUpperCase(c) && i > 0)
+                handleName.append('_');
+
+            handleName.append(Character.toUpperCase(c));
+        }
+
+        return handleName.toString();
+    }
+
+    private String getName(final AnnotationMirror mirror) {
+        return ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    private void warn(final Element element, final String message) {
+        this.processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, message, element);
+    }
+}
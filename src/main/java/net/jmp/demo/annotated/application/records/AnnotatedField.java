@@ -1,10 +1,11 @@
 package net.jmp.demo.annotated.application.records;
 
 /*
+ * (#)AnnotatedField.java   0.7.0   10/18/2026
  * (#)AnnotatedField.java   0.4.0   03/05/2024
  *
  * @author    Jonathan Parker
- * @version   0.4.0
+ * @version   0.7.0
  * @since     0.4.0
  *
  * MIT License
@@ -30,7 +31,17 @@ package net.jmp.demo.annotated.application.records;
  * SOFTWARE.
  */
 
+/*
+ * The applicationPropertyName is the name given to @ApplicationProperty
+ * on the field. It is empty for a @SystemProperty field and null when
+ * the scan did not read the annotation's attributes.
+ */
 public record AnnotatedField(
         String className,
-        String fieldName)
-{}
+        String fieldName,
+        String applicationPropertyName)
+{
+    public AnnotatedField(final String className, final String fieldName) {
+        this(className, fieldName, null);
+    }
+}
@@ -0,0 +1,98 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)TestAnnotationIndex.java    0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import java.util.List;
+import java.util.Map;
+
+import net.jmp.demo.annotated.application.processors.SourceCompiler;
+
+import net.jmp.demo.annotated.application.records.AnnotatedField;
+import net.jmp.demo.annotated.application.records.ScanResults;
+
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+public class TestAnnotationIndex {
+    @Test
+    public void testRoundTrip() throws Throwable {
+        final var outputDirectory = SourceCompiler.compile(Map.of(
+                "com.example.RoundTrip",
+                """
+                package com.example;
+
+                import net.jmp.demo.annotated.application.annotations.Application;
+                import net.jmp.demo.annotated.application.annotations.ApplicationProperty;
+                import net.jmp.demo.annotated.application.annotations.ManagedClass;
+                import net.jmp.demo.annotated.application.annotations.SystemProperty;
+
+                @Application
+                public class RoundTrip {
+                    @ApplicationProperty(name = "app.name")
+                    private String name;
+
+                    @ManagedClass
+                    public static class Managed {
+                        @SystemProperty(name = "user.home")
+                        String home;
+                    }
+                }
+                """
+        ));
+
+        try (final var classLoader = new URLClassLoader(new URL[] {outputDirectory.toUri().toURL()}, null)) {
+            final var scanResults = new AnnotationIndex(classLoader).read().orElseThrow();
+
+            assertEquals(
+                    new ScanResults(
+                            List.of("com.example.RoundTrip"),
+                            List.of("com.example.RoundTrip$Managed"),
+                            List.of(
+                                    new AnnotatedField("com.example.RoundTrip", "name", "app.name"),
+                                    new AnnotatedField("com.example.RoundTrip$Managed", "home", "")
+                            )
+                    ),
+                    scanResults
+            );
+        }
+    }
+
+    @Test
+    public void testNoIndex() throws Throwable {
+        try (final var classLoader = new URLClassLoader(new URL[0], null)) {
+            assertTrue(new AnnotationIndex(classLoader).read().isEmpty());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)TestAnnotationScanner.java  0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.File;
+
+import java.nio.file.Files;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+public class TestAnnotationScanner {
+    private static final String APPLICATION = "net.jmp.demo.annotated.application.app.DemoApplication";
+    private static final List<String> MANAGED_CLASS_NAMES = List.of(
+            "net.jmp.demo.annotated.application.app.DemoTerminator",
+            "net.jmp.demo.annotated.application.app.DemoExecutor",
+            "net.jmp.demo.annotated.application.app.DemoInitializer"
+    );
+
+    @After
+    public void after() {
+        System.clearProperty(AnnotationScanner.SCAN_ENGINE_PROPERTY);
+        System.clearProperty(AnnotationScanner.SCAN_PARALLELISM_PROPERTY);
+    }
+
+    @Test
+    public void testParallelScanKeepsClasspathOrder() throws Throwable {
+        final var roots = new ArrayList<File>();
+
+        for (final var className : MANAGED_CLASS_NAMES)
+            roots.add(writeJar(className));
+
+        System.setProperty(AnnotationScanner.SCAN_ENGINE_PROPERTY, "mapped");
+        System.setProperty(AnnotationScanner.SCAN_PARALLELISM_PROPERTY, "4");
+
+        for (int i = 0; i < 10; i++) {
+            final var results = new AnnotationScanner(roots.toArray(new File[0])).scan();
+
+            assertEquals(MANAGED_CLASS_NAMES, results.managedClassNames());
+            assertEquals(MANAGED_CLASS_NAMES.get(0), results.annotatedFields().get(0).className());
+        }
+
+        System.setProperty(AnnotationScanner.SCAN_PARALLELISM_PROPERTY, "1");
+
+        assertEquals(MANAGED_CLASS_NAMES, new AnnotationScanner(roots.toArray(new File[0])).scan().managedClassNames());
+    }
+
+    @Test
+    public void testCorruptJarIsReportedOnce() throws Throwable {
+        final var jar = Files.createTempFile("annotation-scanner", ".jar");
+
+        try (final var output = new ZipOutputStream(Files.newOutputStream(jar))) {
+            for (final var className : List.of(APPLICATION, MANAGED_CLASS_NAMES.get(0), MANAGED_CLASS_NAMES.get(1))) {
+                final var name = className.replace('.', '/') + ".class";
+
+                try (final var input = TestAnnotationScanner.class.getClassLoader().getResourceAsStream(name)) {
+                    output.putNextEntry(new ZipEntry(name));
+                    input.transferTo(output);
+                    output.closeEntry();
+                }
+            }
+        }
+
+        TestMappedAnnotationScanner.corruptEntry(jar, MANAGED_CLASS_NAMES.get(1));
+
+        System.setProperty(AnnotationScanner.SCAN_ENGINE_PROPERTY, "mapped");
+
+        final var results = new AnnotationScanner(jar.toFile()).scan();
+
+        assertEquals(List.of(APPLICATION), results.applicationClassNames());
+        assertEquals(List.of(MANAGED_CLASS_NAMES.get(0)), results.managedClassNames());
+        assertEquals(1, results.annotatedFields().size());
+    }
+
+    private static File writeJar(final String className) throws Exception {
+        final var jar = Files.createTempFile("annotation-scanner", ".jar");
+        final var name = className.replace('.', '/') + ".class";
+
+        try (final var output = new ZipOutputStream(Files.newOutputStream(jar));
+             final var input = TestAnnotationScanner.class.getClassLoader().getResourceAsStream(name)) {
+            output.putNextEntry(new ZipEntry(name));
+            input.transferTo(output);
+            output.closeEntry();
+        }
+
+        return jar.toFile();
+    }
+}
@@ -0,0 +1,135 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)TestApplicationExecutor.java0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.jmp.demo.annotated.application.annotations.AppExec;
+import net.jmp.demo.annotated.application.annotations.AppTerm;
+
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+public class TestApplicationExecutor {
+    @Test
+    public void testBounded() throws Throwable {
+        Bounded.invocations.set(0);
+        Bounded.terminatedAfter.set(-1);
+
+        new ApplicationExecutor().executeApplication(Bounded.class);
+
+        assertEquals(100, Bounded.invocations.get());
+        assertEquals(100, Bounded.terminatedAfter.get());
+    }
+
+    @Test
+    public void testUnboundedEndsOnFalse() throws Throwable {
+        Unbounded.invocations.set(0);
+        Unbounded.terminated.set(false);
+
+        new ApplicationExecutor().executeApplication(Unbounded.class);
+
+        assertTrue(Unbounded.invocations.get() >= 50);
+        assertTrue(Unbounded.terminated.get());
+    }
+
+    @Test
+    public void testUnboundedStopsFailingThreads() throws Throwable {
+        Failing.invocations.set(0);
+        Failing.terminated.set(false);
+
+        new ApplicationExecutor().executeApplication(Failing.class);
+
+        assertEquals(2, Failing.invocations.get());
+        assertTrue(Failing.terminated.get());
+    }
+
+    public static class Bounded {
+        static final AtomicInteger invocations = new AtomicInteger();
+        static final AtomicInteger terminatedAfter = new AtomicInteger();
+
+        public Bounded() {
+            super();
+        }
+
+        @AppExec(concurrency = 4, iterations = 100)
+        public void exec() {
+            invocations.incrementAndGet();
+        }
+
+        @AppTerm
+        public void term() {
+            terminatedAfter.set(invocations.get());
+        }
+    }
+
+    public static class Unbounded {
+        static final AtomicInteger invocations = new AtomicInteger();
+        static final AtomicBoolean terminated = new AtomicBoolean();
+
+        public Unbounded() {
+            super();
+        }
+
+        @AppExec(concurrency = 4, iterations = AppExec.UNBOUNDED)
+        public boolean exec() {
+            return invocations.incrementAndGet() < 50;
+        }
+
+        @AppTerm
+        public void term() {
+            terminated.set(true);
+        }
+    }
+
+    public static class Failing {
+        static final AtomicInteger invocations = new AtomicInteger();
+        static final AtomicBoolean terminated = new AtomicBoolean();
+
+        public Failing() {
+            super();
+        }
+
+        @AppExec(concurrency = 2, iterations = AppExec.UNBOUNDED)
+        public boolean exec() {
+            invocations.incrementAndGet();
+
+            throw new IllegalStateException("Failing");
+        }
+
+        @AppTerm
+        public void term() {
+            terminated.set(true);
+        }
+    }
+}
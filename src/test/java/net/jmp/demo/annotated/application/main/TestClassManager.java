@@ -0,0 +1,501 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)TestClassManager.java       0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+
+import java.util.function.Supplier;
+
+import net.jmp.demo.annotated.application.annotations.ApplicationProperty;
+import net.jmp.demo.annotated.application.annotations.ManagedClass;
+import net.jmp.demo.annotated.application.annotations.SystemProperty;
+
+import net.jmp.demo.annotated.application.enumerations.ManagedClassScope;
+import net.jmp.demo.annotated.application.enumerations.PropertyDataType;
+
+import net.jmp.demo.annotated.application.records.AnnotatedField;
+import net.jmp.demo.annotated.application.records.ScanResults;
+
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+public class TestClassManager {
+    private static final List<String> created = new CopyOnWriteArrayList<>();
+
+    @Before
+    public void before() {
+        created.clear();
+    }
+
+    @Test
+    public void testNewInstance() throws Throwable {
+        final var instance = ClassManager.newInstance(Independent.class);
+
+        assertTrue(instance.isPresent());
+        assertTrue(instance.get() instanceof Independent);
+    }
+
+    @Test
+    public void testNewInstancesAsyncHonorsDependencies() throws Throwable {
+        final var executor = Executors.newFixedThreadPool(4);
+
+        try {
+            final var futures = ClassManager.newInstancesAsync(executor, Dependent.class, Independent.class, Dependency.class);
+
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+
+            assertEquals(3, futures.size());
+            assertTrue(futures.get(0).join().orElseThrow() instanceof Dependent);
+            assertTrue(futures.get(1).join().orElseThrow() instanceof Independent);
+            assertTrue(futures.get(2).join().orElseThrow() instanceof Dependency);
+            assertTrue(created.indexOf("Dependency") < created.indexOf("Dependent"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testNewInstances() throws Throwable {
+        final var instances = ClassManager.newInstances(Independent.class, 3);
+
+        assertEquals(3, instances.size());
+        assertEquals(3, created.size());
+        assertNotSame(instances.get(0), instances.get(1));
+
+        final var array = ClassManager.newInstances(Independent.class, new Independent[2]);
+
+        assertNotNull(array[0]);
+        assertNotNull(array[1]);
+        assertEquals(4, ClassManager.streamInstances(Independent.class, 4).count());
+        assertEquals(9, created.size());
+
+        ClassManager.clearScopedInstances();
+
+        final var singletons = ClassManager.newInstances(Singleton.class, 2);
+
+        assertSame(singletons.get(0), singletons.get(1));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testNewInstancesWithFailingConstructor() throws Throwable {
+        ClassManager.newInstances(Failing.class, 2);
+    }
+
+    @Test
+    public void testScopes() throws Throwable {
+        ClassManager.clearScopedInstances();
+
+        assertSame(ClassManager.newInstance(Singleton.class).orElseThrow(), ClassManager.newInstance(Singleton.class).orElseThrow());
+        assertNotSame(ClassManager.newInstance(Independent.class).orElseThrow(), ClassManager.newInstance(Independent.class).orElseThrow());
+
+        final var threadInstance = ClassManager.newInstance(PerThread.class).orElseThrow();
+        final var otherThreadInstance = CompletableFuture.supplyAsync(() -> {
+            try {
+                return ClassManager.newInstance(PerThread.class).orElseThrow();
+            } catch (final Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }).join();
+
+        assertSame(threadInstance, ClassManager.newInstance(PerThread.class).orElseThrow());
+        assertNotSame(threadInstance, otherThreadInstance);
+    }
+
+    @Test
+    public void testPooled() throws Throwable {
+        ClassManager.clearScopedInstances();
+
+        final var first = ClassManager.newInstance(Pooled.class).orElseThrow();
+        final var second = ClassManager.newInstance(Pooled.class).orElseThrow();
+
+        assertNotSame(first, second);
+
+        ClassManager.release(first);
+        ClassManager.release(second);
+        ClassManager.release(new Pooled());
+
+        assertSame(first, ClassManager.newInstance(Pooled.class).orElseThrow());
+        assertSame(second, ClassManager.newInstance(Pooled.class).orElseThrow());
+        assertNotSame(first, ClassManager.newInstance(Pooled.class).orElseThrow());
+    }
+
+    @Test
+    public void testPooledReleaseIsGuarded() throws Throwable {
+        ClassManager.clearScopedInstances();
+
+        final var borrowed = ClassManager.newInstance(Pooled.class).orElseThrow();
+
+        ClassManager.release(borrowed);
+        ClassManager.release(borrowed);
+        ClassManager.release(new Pooled());
+
+        final var scopedInstances = ApplicationContext.getCurrent().getScopedInstances().get(Pooled.class);
+
+        assertEquals(1, scopedInstances.getIdleCount());
+        assertEquals(0, scopedInstances.getBorrowedCount());
+
+        final var first = ClassManager.newInstance(Pooled.class).orElseThrow();
+        final var second = ClassManager.newInstance(Pooled.class).orElseThrow();
+
+        assertSame(borrowed, first);
+        assertNotSame(first, second);
+        assertEquals(2, scopedInstances.getBorrowedCount());
+    }
+
+    @Test
+    public void testForgottenBorrowsAreCollected() throws Throwable {
+        ClassManager.clearScopedInstances();
+
+        for (int i = 0; i < 4; i++)
+            ClassManager.newInstance(Pooled.class).orElseThrow();
+
+        final var scopedInstances = ApplicationContext.getCurrent().getScopedInstances().get(Pooled.class);
+
+        assertEquals(4, scopedInstances.getBorrowedCount());
+
+        for (int i = 0; i < 100 && scopedInstances.getBorrowedCount() > 0; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertEquals(0, scopedInstances.getBorrowedCount());
+    }
+
+    @Test
+    public void testLazyProperty() throws Throwable {
+        System.clearProperty("test.lazy.limit");
+
+        new ApplicationConfigurator().configureApplication(
+                LazyApplication.class,
+                new ScanResults(List.of(), List.of(), List.of(new AnnotatedField(Lazy.class.getName(), "limit")))
+        );
+
+        try {
+            ClassManager.clearInjectionPlans();
+
+            final var lazy = (Lazy) ClassManager.newInstance(Lazy.class).orElseThrow();
+
+            assertFalse(((LazyProperty) (Object) lazy.limit).isResolved());
+
+            System.setProperty("test.lazy.limit", "42");
+
+            assertEquals(Integer.valueOf(42), lazy.limit.get());
+
+            System.setProperty("test.lazy.limit", "43");
+
+            assertEquals(Integer.valueOf(42), lazy.limit.get());
+        } finally {
+            System.clearProperty("test.lazy.limit");
+
+            new ApplicationConfigurator().configureApplication(LazyApplication.class, new ScanResults(List.of(), List.of(), List.of()));
+            ClassManager.clearInjectionPlans();
+        }
+    }
+
+    @Test
+    public void testSystemPropertyArgumentOverride() throws Throwable {
+        System.setProperty("test.system.owner", "system");
+
+        try {
+            final var sources = new PropertySources("", List.of(), Map.of(), System.getProperties(),
+                    PropertySources.parseArguments(List.of("--test.system.owner=argument")), Set.of());
+            final var context = new ApplicationContext(LazyApplication.class);
+
+            context.setPropertySources(sources);
+            context.setPropertySnapshot(new PropertySnapshot(sources.load()));
+            context.setAnnotatedFieldIndex(AnnotatedFieldIndex.of(List.of(new AnnotatedField(Owner.class.getName(), "owner"))));
+
+            final var owner = context.call(() -> {
+                try {
+                    return (Owner) ClassManager.newInstance(Owner.class).orElseThrow();
+                } catch (final Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+
+            assertEquals("argument", owner.owner);
+        } finally {
+            System.clearProperty("test.system.owner");
+        }
+    }
+
+    @Test
+    public void testApplicationContexts() throws Throwable {
+        final var first = newContext("first");
+        final var second = newContext("second");
+
+        final var futures = List.of(first, second).stream()
+                .map(context -> CompletableFuture.supplyAsync(() -> context.call(() -> {
+                    try {
+                        return (Named) ClassManager.newInstance(Named.class).orElseThrow();
+                    } catch (final Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                })))
+                .toList();
+
+        assertEquals("first", futures.get(0).join().name);
+        assertEquals("second", futures.get(1).join().name);
+        assertTrue(first.getInjectionPlans().containsKey(Named.class));
+        assertFalse(ApplicationContext.getCurrent().getInjectionPlans().containsKey(Named.class));
+
+        final var inherited = new CompletableFuture<ApplicationContext>();
+
+        first.run(() -> Thread.ofPlatform().start(() -> inherited.complete(ApplicationContext.getCurrent())));
+
+        assertSame(first, inherited.join());
+    }
+
+    @Test
+    public void testInjectionPlanIsCached() throws Throwable {
+        final var first = newContext("first");
+        final var second = newContext("second");
+
+        final var firstPlans = first.call(() -> {
+            try {
+                ClassManager.newInstance(Named.class).orElseThrow();
+
+                final var plan = first.getInjectionPlans().get(Named.class);
+
+                ClassManager.newInstance(Named.class).orElseThrow();
+
+                return List.of(plan, first.getInjectionPlans().get(Named.class));
+            } catch (final Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertNotNull(firstPlans.get(0));
+        assertSame(firstPlans.get(0), firstPlans.get(1));
+        assertFalse(second.getInjectionPlans().containsKey(Named.class));
+
+        final var named = second.call(() -> {
+            try {
+                return (Named) ClassManager.newInstance(Named.class).orElseThrow();
+            } catch (final Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertEquals("second", named.name);
+        assertNotSame(firstPlans.get(0), second.getInjectionPlans().get(Named.class));
+        assertSame(firstPlans.get(0), first.getInjectionPlans().get(Named.class));
+    }
+
+    @Test
+    public void testPlanFromReplacedSnapshotIsDiscarded() throws Throwable {
+        final var context = newContext("before");
+
+        final var named = context.call(() -> {
+            try {
+                final var stalePlan = ClassManager.getInjectionPlan(Named.class);
+                final var properties = new Properties();
+
+                properties.setProperty("test.context.name", "after");
+
+                /* A reload swaps the snapshot while a plan built from the old one is still cached */
+
+                ApplicationContext.getCurrent().setPropertySnapshot(new PropertySnapshot(properties));
+
+                final var instance = (Named) ClassManager.newInstance(Named.class).orElseThrow();
+
+                assertNotSame(stalePlan, ClassManager.getInjectionPlan(Named.class));
+
+                return instance;
+            } catch (final Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertEquals("after", named.name);
+    }
+
+    private static ApplicationContext newContext(final String name) {
+        final var properties = new Properties();
+
+        properties.setProperty("test.context.name", name);
+
+        final var context = new ApplicationContext(LazyApplication.class);
+
+        context.setPropertySnapshot(new PropertySnapshot(properties));
+        context.setAnnotatedFieldIndex(AnnotatedFieldIndex.of(List.of(new AnnotatedField(Named.class.getName(), "name"))));
+
+        return context;
+    }
+
+    @Test
+    public void testArrayValuesAreIsolated() throws Throwable {
+        final var properties = new Properties();
+
+        properties.setProperty("test.arrays.ints", "1, 2");
+        properties.setProperty("test.arrays.longs", "3, 4");
+        properties.setProperty("test.arrays.strings", "a, b");
+
+        final var context = new ApplicationContext(LazyApplication.class);
+
+        context.setPropertySnapshot(new PropertySnapshot(properties));
+        context.setAnnotatedFieldIndex(AnnotatedFieldIndex.of(List.of(
+                new AnnotatedField(ArrayHolder.class.getName(), "ints"),
+                new AnnotatedField(ArrayHolder.class.getName(), "longs"),
+                new AnnotatedField(ArrayHolder.class.getName(), "strings")
+        )));
+
+        final var instances = context.call(() -> {
+            try {
+                return ClassManager.newInstances(ArrayHolder.class, 2);
+            } catch (final Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        final var first = instances.get(0);
+        final var second = instances.get(1);
+
+        first.ints[0] = -1;
+        first.longs[0] = -1L;
+        first.strings[0] = "changed";
+
+        assertArrayEquals(new int[] {1, 2}, second.ints);
+        assertArrayEquals(new long[] {3L, 4L}, second.longs);
+        assertArrayEquals(new String[] {"a", "b"}, second.strings);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNewInstancesAsyncRejectsCycles() throws Throwable {
+        ClassManager.newInstancesAsync(CycleA.class, CycleB.class);
+    }
+
+    @Test
+    public void testNewInstancesAsyncWithFailingConstructor() throws Throwable {
+        final var futures = ClassManager.newInstancesAsync(Failing.class, AfterFailing.class);
+
+        assertFalse(futures.get(0).join().isPresent());
+        assertTrue(futures.get(1).join().isPresent());
+    }
+
+    @ManagedClass(scope = ManagedClassScope.SINGLETON)
+    static final class Singleton {
+    }
+
+    @ManagedClass(scope = ManagedClassScope.THREAD_LOCAL)
+    static final class PerThread {
+    }
+
+    @ManagedClass
+    static final class ArrayHolder {
+        @ApplicationProperty(name = "test.arrays.ints", type = PropertyDataType.INT_ARRAY)
+        private int[] ints;
+
+        @ApplicationProperty(name = "test.arrays.longs", type = PropertyDataType.LONG_ARRAY)
+        private long[] longs;
+
+        @ApplicationProperty(name = "test.arrays.strings", type = PropertyDataType.STRING_ARRAY)
+        private String[] strings;
+    }
+
+    @ManagedClass(scope = ManagedClassScope.POOLED, poolSize = 2)
+    static final class Pooled {
+    }
+
+    static final class LazyApplication {
+    }
+
+    @ManagedClass
+    static final class Lazy {
+        @SystemProperty(name = "test.lazy.limit", type = PropertyDataType.INTEGER)
+        private Supplier<Integer> limit;
+    }
+
+    @ManagedClass
+    static final class Owner {
+        @SystemProperty(name = "test.system.owner")
+        private String owner;
+    }
+
+    @ManagedClass
+    static final class Named {
+        @ApplicationProperty(name = "test.context.name", type = PropertyDataType.STRING)
+        private String name;
+    }
+
+    @ManagedClass
+    static final class Independent {
+        Independent() {
+            created.add("Independent");
+        }
+    }
+
+    @ManagedClass
+    static final class Dependency {
+        Dependency() throws InterruptedException {
+            Thread.sleep(50);
+
+            created.add("Dependency");
+        }
+    }
+
+    @ManagedClass(dependsOn = Dependency.class)
+    static final class Dependent {
+        Dependent() {
+            created.add("Dependent");
+        }
+    }
+
+    @ManagedClass(dependsOn = CycleB.class)
+    static final class CycleA {
+    }
+
+    @ManagedClass(dependsOn = CycleA.class)
+    static final class CycleB {
+    }
+
+    @ManagedClass
+    static final class Failing {
+        Failing() {
+            throw new IllegalStateException("Failing");
+        }
+    }
+
+    @ManagedClass(dependsOn = Failing.class)
+    static final class AfterFailing {
+        AfterFailing() {
+            created.add("AfterFailing");
+        }
+    }
+}
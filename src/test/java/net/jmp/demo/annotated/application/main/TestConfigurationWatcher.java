@@ -0,0 +1,78 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)TestConfigurationWatcher.java0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.nio.file.Files;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+public class TestConfigurationWatcher {
+    @Test
+    public void testMalformedFileKeepsWatching() throws Throwable {
+        final var configFile = Files.createTempFile("configuration-watcher", ".properties");
+
+        Files.writeString(configFile, "watched.key=first\n");
+
+        final var context = new ApplicationContext(null);
+        final var sources = new PropertySources("", List.of(configFile.toString()), Map.of(), new Properties(), Map.of(), null);
+
+        context.setPropertySources(sources);
+        context.setPropertySnapshot(new PropertySnapshot(sources.load()));
+        context.setConfigurationWatcher(ConfigurationWatcher.start(context, List.of(configFile.toString())));
+
+        try {
+            Files.writeString(configFile, "watched.key=\\u00\n");
+
+            Thread.sleep(500);
+
+            assertEquals("first", getWatchedValue(context));
+
+            Files.writeString(configFile, "watched.key=second\n");
+
+            for (int i = 0; i < 100 && !"second".equals(getWatchedValue(context)); i++)
+                Thread.sleep(50);
+
+            assertEquals("second", getWatchedValue(context));
+        } finally {
+            context.close();
+        }
+    }
+
+    private static String getWatchedValue(final ApplicationContext context) {
+        return context.getPropertySnapshot().get("watched.key").map(PropertyValue::getString).orElse(null);
+    }
+}
@@ -0,0 +1,160 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)TestFieldWriters.java       0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import net.jmp.demo.annotated.application.enumerations.FieldInjectionType;
+
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+public class TestFieldWriters {
+    @Test
+    public void testMethodHandleWriters() throws Throwable {
+        this.testWriters(FieldInjectionType.METHOD_HANDLE);
+    }
+
+    @Test
+    public void testReflectiveWriters() throws Throwable {
+        this.testWriters(FieldInjectionType.REFLECTION);
+    }
+
+    @Test
+    public void testArrayIsCopied() throws Throwable {
+        final var value = new int[] {1, 2};
+        final var first = new Holder();
+        final var second = new Holder();
+        final var writer = FieldWriters.methodHandleWriter(Holder.class.getDeclaredField("ints"), value);
+
+        writer.write(first);
+        writer.write(second);
+
+        assertNotSame(value, first.ints);
+        assertNotSame(first.ints, second.ints);
+        assertArrayEquals(value, second.ints);
+    }
+
+    private void testWriters(final FieldInjectionType injectionType) throws Throwable {
+        final var holder = new Holder();
+
+        write(injectionType, holder, Holder.class, "intValue", 1);
+        write(injectionType, holder, Holder.class, "longValue", 2L);
+        write(injectionType, holder, Holder.class, "booleanValue", true);
+        write(injectionType, holder, Holder.class, "doubleValue", 3.5d);
+        write(injectionType, holder, Holder.class, "floatValue", 4.5f);
+        write(injectionType, holder, Holder.class, "shortValue", (short) 5);
+        write(injectionType, holder, Holder.class, "byteValue", (byte) 6);
+        write(injectionType, holder, Holder.class, "charValue", 'c');
+        write(injectionType, holder, Holder.class, "boxedInteger", 7);
+        write(injectionType, holder, Holder.class, "boxedLong", 8L);
+        write(injectionType, holder, Holder.class, "boxedBoolean", Boolean.TRUE);
+        write(injectionType, holder, Holder.class, "boxedDouble", 9.5d);
+        write(injectionType, holder, Holder.class, "string", "text");
+        write(injectionType, holder, Holder.class, "finalInt", 10);
+        write(injectionType, holder, Holder.class, "finalString", "final");
+        write(injectionType, holder, Base.class, "baseValue", 11);
+        write(injectionType, holder, Base.class, "finalBaseValue", 12L);
+
+        assertEquals(1, holder.intValue);
+        assertEquals(2L, holder.longValue);
+        assertTrue(holder.booleanValue);
+        assertEquals(3.5d, holder.doubleValue, 0.0d);
+        assertEquals(4.5f, holder.floatValue, 0.0f);
+        assertEquals(5, holder.shortValue);
+        assertEquals(6, holder.byteValue);
+        assertEquals('c', holder.charValue);
+        assertEquals(Integer.valueOf(7), holder.boxedInteger);
+        assertEquals(Long.valueOf(8L), holder.boxedLong);
+        assertEquals(Boolean.TRUE, holder.boxedBoolean);
+        assertEquals(Double.valueOf(9.5d), holder.boxedDouble);
+        assertEquals("text", holder.string);
+        assertEquals(10, holder.finalInt);
+        assertEquals("final", holder.finalString);
+        assertEquals(11, holder.getBaseValue());
+        assertEquals(12L, holder.getFinalBaseValue());
+    }
+
+    private static void write(
+            final FieldInjectionType injectionType,
+            final Object instance,
+            final Class<?> declaringClass,
+            final String fieldName,
+            final Object value) throws Throwable {
+        final var field = declaringClass.getDeclaredField(fieldName);
+
+        FieldWriters.create(injectionType, field, value).write(instance);
+    }
+
+    static class Base {
+        private int baseValue;
+        private final long finalBaseValue;
+
+        Base() {
+            super();
+
+            this.finalBaseValue = -1L;
+        }
+
+        int getBaseValue() {
+            return this.baseValue;
+        }
+
+        long getFinalBaseValue() {
+            return this.finalBaseValue;
+        }
+    }
+
+    static final class Holder extends Base {
+        private int intValue;
+        private long longValue;
+        private boolean booleanValue;
+        private double doubleValue;
+        private float floatValue;
+        private short shortValue;
+        private byte byteValue;
+        private char charValue;
+        private Integer boxedInteger;
+        private Long boxedLong;
+        private Boolean boxedBoolean;
+        private Double boxedDouble;
+        private String string;
+        private int[] ints;
+        private final int finalInt;
+        private final String finalString;
+
+        Holder() {
+            super();
+
+            this.finalInt = -1;
+            this.finalString = "initial";
+        }
+    }
+}
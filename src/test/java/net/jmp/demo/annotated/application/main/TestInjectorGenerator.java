@@ -0,0 +1,294 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)TestInjectorGenerator.java  0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.reflect.Field;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import java.nio.file.Files;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import java.util.function.Supplier;
+
+import net.jmp.demo.annotated.application.processors.InjectorGenerator;
+import net.jmp.demo.annotated.application.processors.SourceCompiler;
+
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+public class TestInjectorGenerator {
+    /*
+     * Sub shadows the value field of both of its superclasses;
+     * Base is in another package so its fields need var handles.
+     */
+    private static final Map<String, String> SOURCES = Map.of(
+            "com.example.shared.Base",
+            """
+            package com.example.shared;
+
+            import net.jmp.demo.annotated.application.annotations.ApplicationProperty;
+            import net.jmp.demo.annotated.application.annotations.SystemProperty;
+            import net.jmp.demo.annotated.application.enumerations.PropertyDataType;
+
+            public class Base {
+                @ApplicationProperty(name = "base.secret")
+                private String secret;
+
+                @ApplicationProperty(name = "base.value", type = PropertyDataType.INTEGER)
+                protected int value;
+
+                @SystemProperty(name = "java.version")
+                public String version;
+            }
+            """,
+            "com.example.injected.Middle",
+            """
+            package com.example.injected;
+
+            import net.jmp.demo.annotated.application.annotations.ApplicationProperty;
+
+            public class Middle extends com.example.shared.Base {
+                @ApplicationProperty(name = "middle.value")
+                String value;
+            }
+            """,
+            "com.example.injected.Sub",
+            """
+            package com.example.injected;
+
+            import net.jmp.demo.annotated.application.annotations.ApplicationProperty;
+            import net.jmp.demo.annotated.application.annotations.ManagedClass;
+            import net.jmp.demo.annotated.application.enumerations.PropertyDataType;
+
+            @ManagedClass(generateInjector = true)
+            public class Sub extends Middle {
+                @ApplicationProperty(name = "sub.value", type = PropertyDataType.LONG)
+                private long value;
+
+                @ApplicationProperty(name = "sub.name")
+                String name;
+            }
+            """
+    );
+
+    @Test
+    public void testGeneratedMatchesReflective() throws Throwable {
+        final var outputDirectory = SourceCompiler.compile(SOURCES);
+
+        try (final var classLoader = new URLClassLoader(new URL[] {outputDirectory.toUri().toURL()}, this.getClass().getClassLoader())) {
+            final var subClass = Class.forName("com.example.injected.Sub", true, classLoader);
+            final var properties = new Properties();
+
+            properties.setProperty("base.secret", "secret");
+            properties.setProperty("base.value", "1");
+            properties.setProperty("middle.value", "two");
+            properties.setProperty("sub.value", "3");
+            properties.setProperty("sub.name", "name");
+
+            final var context = new ApplicationContext(subClass);
+
+            context.setPropertySnapshot(new PropertySnapshot(properties));
+            context.setAnnotatedFieldIndex(AnnotatedFieldIndex.of(new AnnotationIndex(classLoader).read().orElseThrow().annotatedFields()));
+
+            final var plan = context.call(() -> {
+                try {
+                    return new InjectionPlanner().plan(subClass);
+                } catch (final Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+
+            final var injectorSource = Files.readString(outputDirectory.resolve(InjectorGenerator.getInjectorClassName(subClass.getName()).replace('.', '/') + ".java"));
+
+            assertTrue(plan.isGenerated());
+            assertTrue(injectorSource.contains("COM_EXAMPLE_SHARED_BASE__VALUE"));
+            assertTrue(injectorSource.contains("COM_EXAMPLE_INJECTED_SUB__VALUE"));
+            assertEquals(6, plan.getFieldCount());
+
+            final var generated = plan.newInstance();
+
+            plan.apply(generated);
+
+            final var reflective = subClass.getDeclaredConstructor().newInstance();
+
+            for (final var injectionPoint : plan.getInjectionPoints())
+                injectionPoint.inject(reflective);
+
+            final var expected = List.<Object>of("secret", 1, System.getProperty("java.version"), "two", 3L, "name");
+
+            assertEquals(expected, getFieldValues(reflective));
+            assertEquals(expected, getFieldValues(generated));
+        }
+    }
+
+    /*
+     * Every field but lazyName is private, so each is written through a
+     * var handle; lazyName is assigned directly. The generated source is
+     * compiled with every lint warning treated as an error.
+     */
+    private static final Map<String, String> KINDS_SOURCES = Map.of(
+            "com.example.kinds.Kinds",
+            """
+            package com.example.kinds;
+
+            import java.util.function.Supplier;
+
+            import net.jmp.demo.annotated.application.annotations.ApplicationProperty;
+            import net.jmp.demo.annotated.application.annotations.ManagedClass;
+            import net.jmp.demo.annotated.application.enumerations.PropertyDataType;
+
+            @ManagedClass(generateInjector = true)
+            public class Kinds {
+                @ApplicationProperty(name = "kinds.int", type = PropertyDataType.INTEGER)
+                private int intValue;
+
+                @ApplicationProperty(name = "kinds.long", type = PropertyDataType.LONG)
+                private long longValue;
+
+                @ApplicationProperty(name = "kinds.boolean", type = PropertyDataType.BOOLEAN)
+                private boolean booleanValue;
+
+                @ApplicationProperty(name = "kinds.double", type = PropertyDataType.DOUBLE)
+                private double doubleValue;
+
+                @ApplicationProperty(name = "kinds.float", type = PropertyDataType.FLOAT)
+                private float floatValue;
+
+                @ApplicationProperty(name = "kinds.short", type = PropertyDataType.SHORT)
+                private short shortValue;
+
+                @ApplicationProperty(name = "kinds.byte", type = PropertyDataType.BYTE)
+                private byte byteValue;
+
+                @ApplicationProperty(name = "kinds.char", type = PropertyDataType.CHAR)
+                private char charValue;
+
+                @ApplicationProperty(name = "kinds.int", type = PropertyDataType.INTEGER)
+                private Integer boxedInteger;
+
+                @ApplicationProperty(name = "kinds.long", type = PropertyDataType.LONG)
+                private Long boxedLong;
+
+                @ApplicationProperty(name = "kinds.boolean", type = PropertyDataType.BOOLEAN)
+                private Boolean boxedBoolean;
+
+                @ApplicationProperty(name = "kinds.double", type = PropertyDataType.DOUBLE)
+                private Double boxedDouble;
+
+                @ApplicationProperty(name = "kinds.string")
+                private String string;
+
+                @ApplicationProperty(name = "kinds.int", type = PropertyDataType.INTEGER)
+                private Supplier<Integer> lazyInt;
+
+                @ApplicationProperty(name = "kinds.string")
+                Supplier<String> lazyName;
+            }
+            """
+    );
+
+    @Test
+    public void testGeneratedWritesEveryKind() throws Throwable {
+        final var outputDirectory = SourceCompiler.compile(KINDS_SOURCES);
+
+        try (final var classLoader = new URLClassLoader(new URL[] {outputDirectory.toUri().toURL()}, this.getClass().getClassLoader())) {
+            final var kindsClass = Class.forName("com.example.kinds.Kinds", true, classLoader);
+            final var properties = new Properties();
+
+            properties.setProperty("kinds.int", "1");
+            properties.setProperty("kinds.long", "2");
+            properties.setProperty("kinds.boolean", "true");
+            properties.setProperty("kinds.double", "3.5");
+            properties.setProperty("kinds.float", "4.5");
+            properties.setProperty("kinds.short", "5");
+            properties.setProperty("kinds.byte", "6");
+            properties.setProperty("kinds.char", "c");
+            properties.setProperty("kinds.string", "text");
+
+            final var context = new ApplicationContext(kindsClass);
+
+            context.setPropertySnapshot(new PropertySnapshot(properties));
+            context.setAnnotatedFieldIndex(AnnotatedFieldIndex.of(new AnnotationIndex(classLoader).read().orElseThrow().annotatedFields()));
+
+            final var plan = context.call(() -> {
+                try {
+                    return new InjectionPlanner().plan(kindsClass);
+                } catch (final Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+
+            final var injectorSource = Files.readString(outputDirectory.resolve(InjectorGenerator.getInjectorClassName(kindsClass.getName()).replace('.', '/') + ".java"));
+
+            assertTrue(plan.isGenerated());
+            assertTrue(injectorSource.contains("(java.util.function.Supplier<java.lang.Integer>) values["));
+            assertTrue(injectorSource.contains("(java.util.function.Supplier<java.lang.String>) values["));
+            assertTrue(injectorSource.contains("@SuppressWarnings({\"unchecked\"})"));
+
+            final var generated = plan.newInstance();
+
+            plan.apply(generated);
+
+            final var values = getFieldValues(generated);
+            final var expected = List.<Object>of(1, 2L, true, 3.5d, 4.5f, (short) 5, (byte) 6, 'c', 1, 2L, true, 3.5d, "text");
+
+            assertEquals(expected, values.subList(0, expected.size()));
+            assertEquals(1, ((Supplier<?>) values.get(expected.size())).get());
+            assertEquals("text", ((Supplier<?>) values.get(expected.size() + 1)).get());
+        }
+    }
+
+    /* Superclass fields first, in declaration order */
+    private static List<Object> getFieldValues(final Object instance) throws IllegalAccessException {
+        final var classes = new ArrayList<Class<?>>();
+
+        for (Class<?> cls = instance.getClass(); cls != Object.class; cls = cls.getSuperclass())
+            classes.add(0, cls);
+
+        final var values = new ArrayList<>();
+
+        for (final var cls : classes) {
+            for (final Field field : cls.getDeclaredFields()) {
+                field.setAccessible(true);
+                values.add(field.get(instance));
+            }
+        }
+
+        return values;
+    }
+}
@@ -0,0 +1,178 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)TestMappedAnnotationScanner.java0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.File;
+
+import java.nio.charset.StandardCharsets;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import net.jmp.demo.annotated.application.app.DemoApplication;
+
+import net.jmp.demo.annotated.application.records.AnnotatedField;
+
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+public class TestMappedAnnotationScanner {
+    private static final ScanScope ALL = new ScanScope(List.of(), List.of(), List.of());
+    private static final String APPLICATION = DemoApplication.class.getName();
+    private static final String EXECUTOR = "net.jmp.demo.annotated.application.app.DemoExecutor";
+    private static final String INITIALIZER = "net.jmp.demo.annotated.application.app.DemoInitializer";
+    private static final String TERMINATOR = "net.jmp.demo.annotated.application.app.DemoTerminator";
+
+    @Test
+    public void testStoredAndDeflatedEntries() throws Throwable {
+        final var jar = Files.createTempFile("mapped-scanner", ".jar");
+
+        try (final var output = new ZipOutputStream(Files.newOutputStream(jar))) {
+            writeEntry(output, APPLICATION, ZipEntry.STORED);
+            writeEntry(output, EXECUTOR, ZipEntry.DEFLATED);
+            writeEntry(output, INITIALIZER, ZipEntry.DEFLATED);
+            writeEntry(output, TERMINATOR, ZipEntry.STORED);
+            writeEntry(output, TestMappedAnnotationScanner.class.getName(), ZipEntry.DEFLATED);
+        }
+
+        final var scanner = new MappedAnnotationScanner(ALL);
+        final var results = scanner.scan(new File[] {jar.toFile()});
+
+        assertTrue(scanner.getUnreadableRoots().isEmpty());
+        assertEquals(5, scanner.getClassesScanned());
+        assertEquals(List.of(APPLICATION), results.applicationClassNames());
+        assertEquals(List.of(EXECUTOR, INITIALIZER, TERMINATOR),
+                results.managedClassNames());
+        assertTrue(results.annotatedFields().contains(new AnnotatedField(EXECUTOR, "maxRetryAttempts", "demo.maxRetryAttempts")));
+        assertTrue(results.annotatedFields().contains(new AnnotatedField(TERMINATOR, "logbackConfigurationFileName", "")));
+        assertEquals(6, results.annotatedFields().size());
+    }
+
+    @Test
+    public void testDirectoryAndPackageScope() throws Throwable {
+        final var directory = Path.of(DemoApplication.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toFile();
+        final var results = new MappedAnnotationScanner(new ScanScope(List.of("net.jmp.demo.annotated.application.app"), List.of(), List.of()))
+                .scan(new File[] {directory});
+
+        assertEquals(List.of(APPLICATION), results.applicationClassNames());
+        assertTrue(results.managedClassNames().contains(EXECUTOR));
+        assertTrue(results.annotatedFields().stream().allMatch(field -> field.className().startsWith("net.jmp.demo.annotated.application.app.")));
+    }
+
+    @Test
+    public void testUnreadableJar() throws Throwable {
+        final var jar = Files.createTempFile("mapped-scanner", ".jar");
+
+        Files.writeString(jar, "not a jar");
+
+        final var scanner = new MappedAnnotationScanner(ALL);
+        final var results = scanner.scan(new File[] {jar.toFile()});
+
+        assertEquals(List.of(jar.toFile()), scanner.getUnreadableRoots());
+        assertTrue(results.applicationClassNames().isEmpty());
+    }
+
+    @Test
+    public void testCorruptEntryDiscardsJar() throws Throwable {
+        final var jar = Files.createTempFile("mapped-scanner", ".jar");
+
+        try (final var output = new ZipOutputStream(Files.newOutputStream(jar))) {
+            writeEntry(output, APPLICATION, ZipEntry.STORED);
+            writeEntry(output, EXECUTOR, ZipEntry.DEFLATED);
+        }
+
+        corruptEntry(jar, EXECUTOR);
+
+        final var scanner = new MappedAnnotationScanner(ALL);
+        final var results = scanner.scan(new File[] {jar.toFile()});
+
+        assertEquals(List.of(jar.toFile()), scanner.getUnreadableRoots());
+        assertEquals(0, scanner.getClassesScanned());
+        assertTrue(results.applicationClassNames().isEmpty());
+        assertTrue(results.managedClassNames().isEmpty());
+        assertTrue(results.annotatedFields().isEmpty());
+    }
+
+    /* Replaces the first byte of a deflated entry with an invalid block type */
+    static void corruptEntry(final Path jar, final String className) throws Exception {
+        final var bytes = Files.readAllBytes(jar);
+        final var name = (className.replace('.', '/') + ".class").getBytes(StandardCharsets.UTF_8);
+        final var nameOffset = indexOf(bytes, name);
+        final var extraLength = (bytes[nameOffset - 2] & 0xFF) | (bytes[nameOffset - 1] & 0xFF) << 8;
+
+        bytes[nameOffset + name.length + extraLength] = (byte) 0xFF;
+
+        Files.write(jar, bytes);
+    }
+
+    private static int indexOf(final byte[] bytes, final byte[] target) {
+        for (int i = 0; i <= bytes.length - target.length; i++) {
+            if (Arrays.equals(bytes, i, i + target.length, target, 0, target.length))
+                return i;
+        }
+
+        throw new IllegalArgumentException("Not found");
+    }
+
+    private static void writeEntry(final ZipOutputStream output, final String className, final int method) throws Exception {
+        final var name = className.replace('.', '/') + ".class";
+        final byte[] bytes;
+
+        try (final var input = TestMappedAnnotationScanner.class.getClassLoader().getResourceAsStream(name)) {
+            bytes = input.readAllBytes();
+        }
+
+        final var entry = new ZipEntry(name);
+
+        entry.setMethod(method);
+
+        if (method == ZipEntry.STORED) {
+            final var crc = new CRC32();
+
+            crc.update(bytes);
+
+            entry.setSize(bytes.length);
+            entry.setCompressedSize(bytes.length);
+            entry.setCrc(crc.getValue());
+        }
+
+        output.putNextEntry(entry);
+        output.write(bytes);
+        output.closeEntry();
+    }
+}
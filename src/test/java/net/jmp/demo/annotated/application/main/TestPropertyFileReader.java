@@ -0,0 +1,100 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)TestPropertyFileReader.java 0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.ByteArrayInputStream;
+
+import java.nio.ByteBuffer;
+
+import java.nio.charset.StandardCharsets;
+
+import java.nio.file.Files;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+public class TestPropertyFileReader {
+    private static final String CONTENTS = String.join("\n",
+            "# comment = ignored",
+            "! another comment",
+            "   indented = value ",
+            "colon:value",
+            "spaces value with spaces",
+            "tabs\t=\tvalue",
+            "continued = first \\",
+            "    second \\",
+            "    third",
+            "escapes = \\t\\n\\u0041\\\\\\q",
+            "escaped\\ key\\=name = value",
+            "empty",
+            "crlf = value\r",
+            "# comment ending in a backslash \\",
+            "last = value");
+
+    @Test
+    public void testMatchesProperties() throws Throwable {
+        final var bytes = CONTENTS.getBytes(StandardCharsets.ISO_8859_1);
+        final var properties = new Properties();
+
+        properties.load(new ByteArrayInputStream(bytes));
+
+        final var expected = new HashMap<String, String>();
+
+        for (final var name : properties.stringPropertyNames())
+            expected.put(name, properties.getProperty(name));
+
+        final var actual = new HashMap<String, String>();
+
+        new PropertyFileReader(key -> true).read(ByteBuffer.wrap(bytes), actual);
+
+        assertEquals(expected, actual);
+        assertEquals("first second third", actual.get("continued"));
+        assertEquals("\t\nA\\q", actual.get("escapes"));
+    }
+
+    @Test
+    public void testRetainedKeys() throws Throwable {
+        final var file = Files.createTempFile("property-file-reader", ".properties");
+
+        Files.writeString(file, CONTENTS, StandardCharsets.ISO_8859_1);
+
+        final var actual = new HashMap<String, String>();
+
+        new PropertyFileReader(key -> key.equals("continued") || key.equals("last"), 0).read(file, actual);
+
+        assertEquals(Map.of("continued", "first second third", "last", "value"), actual);
+    }
+}
@@ -0,0 +1,139 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)TestPropertyParsers.java    0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.time.Duration;
+
+import java.util.Random;
+
+import net.jmp.demo.annotated.application.enumerations.PropertyDataType;
+
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+public class TestPropertyParsers {
+    @Test
+    public void testDoubleAndFloat() throws Throwable {
+        final String[] samples = {
+                "0", "-0", "1", "3.14159", " 2.5 ", "0.05", "-12.75e-3", "1e22", "1e23",
+                "123456789012345678901234567890", "4.9e-324", "1.7976931348623157e308", "NaN", "-Infinity", "0x1.8p1"
+        };
+
+        for (final var sample : samples) {
+            assertEquals(sample, Double.parseDouble(sample.strip()), PropertyParsers.parseDouble(sample), 0.0);
+            assertEquals(sample, Float.parseFloat(sample.strip()), PropertyParsers.parseFloat(sample), 0.0f);
+        }
+
+        final var random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            final var sample = random.nextInt(1_000_000) + "." + random.nextInt(1000) + "e" + (random.nextInt(40) - 20);
+
+            assertEquals(sample, Double.parseDouble(sample), PropertyParsers.parseDouble(sample), 0.0);
+            assertEquals(sample, Float.parseFloat(sample), PropertyParsers.parseFloat(sample), 0.0f);
+        }
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testInvalidDouble() throws Throwable {
+        PropertyParsers.parseDouble("1.5.6");
+    }
+
+    @Test
+    public void testPropertyValue() throws Throwable {
+        assertEquals(-42, new PropertyValue("-42").getInteger());
+        assertEquals(42L, new PropertyValue("+42").getLong());
+        assertEquals(Long.MAX_VALUE, new PropertyValue(String.valueOf(Long.MAX_VALUE)).getLong());
+        assertTrue(new PropertyValue("4294967296").isLong());
+        assertFalse(new PropertyValue("4294967296").isInteger());
+
+        for (final var sample : new String[] {"", "-", "+", " 42", "4 2", "42L", "9223372036854775808", "yes"}) {
+            assertFalse(sample, new PropertyValue(sample).isLong());
+            assertFalse(sample, new PropertyValue(sample).isInteger());
+        }
+    }
+
+    @Test
+    public void testIntegralTypes() throws Throwable {
+        assertEquals(-1024, PropertyParsers.parseShort(" -1024 "));
+        assertEquals(127, PropertyParsers.parseByte("127"));
+        assertEquals('x', PropertyParsers.parseChar(" x "));
+
+        assertThrows(NumberFormatException.class, () -> PropertyParsers.parseByte("128"));
+        assertThrows(IllegalArgumentException.class, () -> PropertyParsers.parseChar("xy"));
+    }
+
+    @Test
+    public void testDuration() throws Throwable {
+        assertEquals(Duration.ofMillis(250), PropertyParsers.parseDuration("250"));
+        assertEquals(Duration.ofMillis(250), PropertyParsers.parseDuration("250ms"));
+        assertEquals(Duration.ofSeconds(30), PropertyParsers.parseDuration("30 s"));
+        assertEquals(Duration.ofMinutes(5), PropertyParsers.parseDuration("5m"));
+        assertEquals(Duration.ofHours(2), PropertyParsers.parseDuration("2H"));
+        assertEquals(Duration.ofDays(1), PropertyParsers.parseDuration("1d"));
+        assertEquals(Duration.ofNanos(1500), PropertyParsers.parseDuration("1500ns"));
+        assertEquals(Duration.ofSeconds(90), PropertyParsers.parseDuration("PT1M30S"));
+
+        assertThrows(IllegalArgumentException.class, () -> PropertyParsers.parseDuration("5 fortnights"));
+    }
+
+    @Test
+    public void testDataSize() throws Throwable {
+        assertEquals(512L, PropertyParsers.parseDataSize("512"));
+        assertEquals(512L, PropertyParsers.parseDataSize("512B"));
+        assertEquals(64L * 1024, PropertyParsers.parseDataSize("64KB"));
+        assertEquals(64L * 1024, PropertyParsers.parseDataSize("64k"));
+        assertEquals(10L * 1024 * 1024, PropertyParsers.parseDataSize("10 MB"));
+        assertEquals(2L * 1024 * 1024 * 1024, PropertyParsers.parseDataSize("2G"));
+
+        assertThrows(NumberFormatException.class, () -> PropertyParsers.parseDataSize("9999999999TB"));
+        assertThrows(IllegalArgumentException.class, () -> PropertyParsers.parseDataSize("10 PB"));
+    }
+
+    @Test
+    public void testEnum() throws Throwable {
+        assertEquals(PropertyDataType.DATA_SIZE, PropertyParsers.parseEnum(PropertyDataType.class, "DATA_SIZE"));
+        assertEquals(PropertyDataType.DATA_SIZE, PropertyParsers.parseEnum(PropertyDataType.class, " data_size "));
+
+        assertThrows(IllegalArgumentException.class, () -> PropertyParsers.parseEnum(PropertyDataType.class, "VOID"));
+    }
+
+    @Test
+    public void testArrays() throws Throwable {
+        assertArrayEquals(new int[] {1, 2, 3}, PropertyParsers.parseIntArray("1, 2 ,3"));
+        assertArrayEquals(new int[0], PropertyParsers.parseIntArray("  "));
+        assertArrayEquals(new long[] {10_000_000_000L, -1L}, PropertyParsers.parseLongArray("10000000000,-1"));
+        assertArrayEquals(new String[] {"alpha", "", "gamma"}, PropertyParsers.parseStringArray("alpha, ,gamma"));
+
+        assertThrows(NumberFormatException.class, () -> PropertyParsers.parseIntArray("1,,3"));
+    }
+}
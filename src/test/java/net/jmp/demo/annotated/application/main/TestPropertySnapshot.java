@@ -0,0 +1,109 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)TestPropertySnapshot.java   0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Properties;
+import java.util.Set;
+
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+public class TestPropertySnapshot {
+    @Test
+    public void testTypedValues() throws Throwable {
+        final var properties = new Properties();
+
+        properties.setProperty("an.integer", "5");
+        properties.setProperty("a.long", "10000000000");
+        properties.setProperty("a.boolean", "Yes");
+        properties.setProperty("a.string", "Jonathan Parker");
+
+        final var snapshot = new PropertySnapshot(properties);
+
+        assertEquals(4, snapshot.size());
+
+        final var integerValue = snapshot.get("an.integer").orElseThrow();
+
+        assertTrue(integerValue.isInteger());
+        assertEquals(5, integerValue.getInteger());
+
+        final var longValue = snapshot.get("a.long").orElseThrow();
+
+        assertTrue(longValue.isLong());
+        assertFalse(longValue.isInteger());
+        assertEquals(10_000_000_000L, longValue.getLong());
+
+        final var booleanValue = snapshot.get("a.boolean").orElseThrow();
+
+        assertTrue(booleanValue.isBoolean());
+        assertTrue(booleanValue.getBoolean());
+
+        final var stringValue = snapshot.get("a.string").orElseThrow();
+
+        assertFalse(stringValue.isLong());
+        assertFalse(stringValue.isBoolean());
+        assertEquals("Jonathan Parker", stringValue.getString());
+    }
+
+    @Test
+    public void testMissingAndBlank() throws Throwable {
+        final var properties = new Properties();
+
+        properties.setProperty("a.blank", "  ");
+
+        final var snapshot = new PropertySnapshot(properties);
+
+        assertTrue(snapshot.get("a.blank").orElseThrow().isBlank());
+        assertFalse(snapshot.get("not.there").isPresent());
+        assertTrue(PropertySnapshot.EMPTY.isEmpty());
+    }
+
+    @Test
+    public void testChangedKeys() throws Throwable {
+        final var previous = new Properties();
+
+        previous.setProperty("unchanged", "1");
+        previous.setProperty("changed", "2");
+        previous.setProperty("removed", "3");
+
+        final var current = new Properties();
+
+        current.setProperty("unchanged", "1");
+        current.setProperty("changed", "20");
+        current.setProperty("added", "4");
+
+        final var changedKeys = new PropertySnapshot(previous).getChangedKeys(new PropertySnapshot(current));
+
+        assertEquals(Set.of("changed", "removed", "added"), changedKeys);
+        assertTrue(new PropertySnapshot(current).getChangedKeys(new PropertySnapshot(current)).isEmpty());
+    }
+}
@@ -0,0 +1,135 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)TestPropertySources.java    0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.nio.file.Files;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+public class TestPropertySources {
+    @Test
+    public void testPrecedence() throws Throwable {
+        final var first = Files.createTempFile("property-sources", ".properties");
+        final var second = Files.createTempFile("property-sources", ".properties");
+
+        Files.writeString(first, "file.only=first\nfile.both=first\nenv.key=file\nsystem.key=file\nargument.key=file\nunreferenced.key=file\n");
+        Files.writeString(second, "file.both=second\n");
+
+        final var systemProperties = new Properties();
+
+        systemProperties.setProperty("system.key", "system");
+        systemProperties.setProperty("undefined.key", "system");
+        systemProperties.setProperty("system.only", "system");
+
+        final var sources = new PropertySources(
+                "",
+                List.of(first.toString(), second.toString()),
+                Map.of("ENV_KEY", "environment", "SYSTEM_KEY", "environment", "ENV_ONLY", "environment", "SYSTEM_ONLY", "environment"),
+                systemProperties,
+                PropertySources.parseArguments(List.of("--argument.key=argument", "--flag", "positional")),
+                Set.of("file.only", "file.both", "env.key", "system.key", "argument.key", "env.only", "system.only", "missing.key")
+        );
+
+        final var properties = sources.load();
+
+        assertEquals("first", properties.get("file.only"));
+        assertEquals("second", properties.get("file.both"));
+        assertEquals("environment", properties.get("env.key"));
+        assertEquals("system", properties.get("system.key"));
+        assertEquals("argument", properties.get("argument.key"));
+        assertEquals("true", properties.get("flag"));
+        assertEquals("environment", properties.get("env.only"));
+        assertEquals("system", properties.get("system.only"));
+        assertNull(properties.get("missing.key"));
+        assertNull(properties.get("undefined.key"));
+        assertNull(properties.get("unreferenced.key"));
+        assertEquals(8, properties.size());
+    }
+
+    @Test
+    public void testUnknownReferencedKeys() throws Throwable {
+        final var file = Files.createTempFile("property-sources", ".properties");
+
+        Files.writeString(file, "file.key=file\nsystem.key=file\n");
+
+        final var systemProperties = new Properties();
+
+        systemProperties.setProperty("system.key", "system");
+        systemProperties.setProperty("undefined.key", "system");
+
+        final var sources = new PropertySources("", List.of(file.toString()), Map.of(), systemProperties, Map.of(), null);
+        final var properties = sources.load();
+
+        assertEquals("file", properties.get("file.key"));
+        assertEquals("system", properties.get("system.key"));
+        assertNull(properties.get("undefined.key"));
+        assertEquals(2, properties.size());
+    }
+
+    @Test
+    public void testSystemProperty() throws Throwable {
+        final var systemProperties = new Properties();
+
+        systemProperties.setProperty("argument.key", "system");
+        systemProperties.setProperty("system.key", "system");
+        systemProperties.setProperty("file.key", "system");
+
+        final var file = Files.createTempFile("property-sources", ".properties");
+
+        Files.writeString(file, "file.only=file\n");
+
+        final var sources = new PropertySources(
+                "",
+                List.of(file.toString()),
+                Map.of("ARGUMENT_KEY", "environment", "SYSTEM_KEY", "environment", "ENV_KEY", "environment"),
+                systemProperties,
+                PropertySources.parseArguments(List.of("--argument.key=argument")),
+                null
+        );
+
+        assertEquals("argument", sources.getSystemProperty("argument.key"));
+        assertEquals("system", sources.getSystemProperty("system.key"));
+        assertEquals("environment", sources.getSystemProperty("env.key"));
+        assertNull(sources.getSystemProperty("file.only"));
+    }
+
+    @Test
+    public void testEnvironmentName() throws Throwable {
+        assertEquals("APP_MAX_RETRY_ATTEMPTS", PropertySources.toEnvironmentName("app.max-retry.attempts"));
+    }
+}
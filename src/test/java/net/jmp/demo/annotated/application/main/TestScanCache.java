@@ -0,0 +1,127 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)TestScanCache.java          0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.File;
+
+import java.nio.file.Files;
+
+import java.nio.file.attribute.FileTime;
+
+import java.util.List;
+
+import net.jmp.demo.annotated.application.records.AnnotatedField;
+import net.jmp.demo.annotated.application.records.ScanResults;
+
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+public class TestScanCache {
+    @Test
+    public void testRoundTrip() throws Throwable {
+        final var directory = Files.createTempDirectory("scan-cache");
+        final var scanCache = new ScanCache(directory, "key", "fingerprint");
+        final var scanResults = new ScanResults(
+                List.of("com.example.Main"),
+                List.of("com.example.Managed"),
+                List.of(
+                        new AnnotatedField("com.example.Managed", "name", "managed.name"),
+                        new AnnotatedField("com.example.Managed", "home", ""),
+                        new AnnotatedField("com.example.Managed", "unread")
+                )
+        );
+
+        assertTrue(scanCache.read().isEmpty());
+
+        scanCache.write(scanResults);
+
+        assertEquals(scanResults, scanCache.read().orElseThrow());
+
+        final var otherKey = new ScanCache(directory, "other", "fingerprint");
+
+        otherKey.write(scanResults);
+
+        assertTrue(Files.exists(scanCache.getCacheFile()));
+
+        new ScanCache(directory, "key", "changed").write(scanResults);
+
+        assertFalse(Files.exists(scanCache.getCacheFile()));
+        assertTrue(Files.exists(otherKey.getCacheFile()));
+    }
+
+    @Test
+    public void testFingerprint() throws Throwable {
+        final var scope = new ScanScope(List.of(), List.of(), List.of());
+        final var jar = Files.createTempFile("scan-cache", ".jar");
+        final var roots = new File[] {jar.toFile()};
+        final var fingerprint = ScanCache.fingerprint(scope, roots);
+
+        assertEquals(fingerprint, ScanCache.fingerprint(scope, roots));
+
+        Files.writeString(jar, "changed");
+
+        assertNotEquals(fingerprint, ScanCache.fingerprint(scope, roots));
+        assertEquals(ScanCache.key(scope, roots), ScanCache.key(scope, new File[] {jar.toFile()}));
+        assertNotEquals(fingerprint, ScanCache.fingerprint(new ScanScope(List.of("com.example"), List.of(), List.of()), roots));
+    }
+
+    @Test
+    public void testDirectoryFingerprint() throws Throwable {
+        final var scope = new ScanScope(List.of(), List.of(), List.of());
+        final var directory = Files.createTempDirectory("scan-cache");
+        final var roots = new File[] {directory.toFile()};
+        final var first = Files.createDirectories(directory.resolve("com/example")).resolve("First.class");
+        final var lastModified = FileTime.fromMillis(1_000_000_000_000L);
+
+        Files.writeString(first, "first");
+        Files.setLastModifiedTime(first, lastModified);
+
+        final var fingerprint = ScanCache.fingerprint(scope, roots);
+
+        /* Same size and modification time under another name */
+
+        final var renamed = Files.move(first, first.resolveSibling("Renamed.class"));
+
+        Files.setLastModifiedTime(renamed, lastModified);
+
+        final var renamedFingerprint = ScanCache.fingerprint(scope, roots);
+
+        assertNotEquals(fingerprint, renamedFingerprint);
+
+        /* Same size, older modification time */
+
+        Files.writeString(renamed, "other");
+        Files.setLastModifiedTime(renamed, FileTime.fromMillis(lastModified.toMillis() - 1000));
+
+        assertNotEquals(renamedFingerprint, ScanCache.fingerprint(scope, roots));
+    }
+}
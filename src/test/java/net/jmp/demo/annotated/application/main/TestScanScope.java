@@ -0,0 +1,90 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)TestScanScope.java          0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.File;
+
+import java.util.List;
+
+import net.jmp.demo.annotated.application.records.AnnotatedField;
+import net.jmp.demo.annotated.application.records.ScanResults;
+
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+public class TestScanScope {
+    @Test
+    public void testDefaultExcludes() throws Throwable {
+        final var scope = new ScanScope(List.of(), List.of(), ScanScope.DEFAULT_EXCLUDES);
+        final var classPath = String.join(File.pathSeparator,
+                "build/classes/java/main",
+                "lib/logback-classic-1.4.12.jar",
+                "lib/slf4j-api-2.0.11.jar",
+                "lib/annotation-detector-3.0.5.jar",
+                "lib/my-application-1.0.jar");
+        final var roots = scope.getRoots(classPath);
+
+        assertEquals(2, roots.length);
+        assertEquals("main", roots[0].getName());
+        assertEquals("my-application-1.0.jar", roots[1].getName());
+    }
+
+    @Test
+    public void testJarNames() throws Throwable {
+        final var scope = new ScanScope(List.of(), List.of("my-application-"), ScanScope.DEFAULT_EXCLUDES);
+
+        assertTrue(scope.includesRoot(new File("build/classes/java/main")));
+        assertTrue(scope.includesRoot(new File("lib/my-application-1.0.jar")));
+        assertFalse(scope.includesRoot(new File("lib/other-library-2.0.jar")));
+    }
+
+    @Test
+    public void testPackageNames() throws Throwable {
+        final var scope = new ScanScope(List.of("com.example"), List.of(), List.of());
+
+        assertTrue(scope.hasPackageNames());
+        assertTrue(scope.includesClass("com.example.Main"));
+        assertTrue(scope.includesClass("com.example.sub.Managed"));
+        assertFalse(scope.includesClass("com.examples.Main"));
+
+        final var scanResults = new ScanResults(
+                List.of("com.example.Main", "org.other.Main"),
+                List.of("org.other.Managed"),
+                List.of(new AnnotatedField("com.example.Main", "name"), new AnnotatedField("org.other.Managed", "name"))
+        );
+        final var filtered = scope.filter(scanResults);
+
+        assertEquals(List.of("com.example.Main"), filtered.applicationClassNames());
+        assertTrue(filtered.managedClassNames().isEmpty());
+        assertEquals(1, filtered.annotatedFields().size());
+    }
+}
@@ -0,0 +1,79 @@
+package net.jmp.demo.annotated.application.main;
+
+/*
+ * (#)TestStartupSnapshot.java    0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.File;
+
+import java.nio.file.Files;
+
+import java.util.List;
+
+import net.jmp.demo.annotated.application.records.AnnotatedField;
+import net.jmp.demo.annotated.application.records.ScanResults;
+
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+public class TestStartupSnapshot {
+    @Test
+    public void testTrainAndRestore() throws Throwable {
+        final var directory = Files.createTempDirectory("startup-snapshot");
+        final var jar = Files.createTempFile("startup-snapshot", ".jar");
+        final var roots = new File[] {jar.toFile()};
+        final var scope = new ScanScope(List.of(), List.of(), List.of());
+        final var training = new StartupSnapshot(directory, true, scope, roots);
+        final var scanResults = new ScanResults(
+                List.of("com.example.Main"),
+                List.of("com.example.Managed"),
+                List.of(new AnnotatedField("com.example.Managed", "name"))
+        );
+
+        training.write(scanResults);
+
+        try (final var files = Files.list(directory)) {
+            assertEquals(1, files.count());
+        }
+
+        final var restored = new StartupSnapshot(directory, false, scope, roots);
+
+        assertFalse(restored.isTraining());
+        assertEquals(scanResults, restored.readScanResults().orElseThrow());
+
+        final var otherScope = new ScanScope(List.of("com.example"), List.of(), List.of());
+
+        assertTrue(new StartupSnapshot(directory, false, otherScope, roots).readScanResults().isEmpty());
+
+        Files.writeString(jar, "rebuilt");
+
+        assertTrue(new StartupSnapshot(directory, false, scope, roots).readScanResults().isEmpty());
+    }
+}
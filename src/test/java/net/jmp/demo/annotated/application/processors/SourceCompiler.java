@@ -0,0 +1,105 @@
+package net.jmp.demo.annotated.application.processors;
+
+/*
+ * (#)SourceCompiler.java         0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+
+import java.net.URI;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.List;
+import java.util.Map;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+/*
+ * Compiles in-memory sources with the annotation index
+ * processor so that tests can inspect what it generates.
+ * Any lint warning, in the sources or in what the processor
+ * generates, fails the compilation.
+ */
+public final class SourceCompiler {
+    private SourceCompiler() {
+        super();
+    }
+
+    /**
+     * Compile the sources, keyed by binary class
+     * name, and return the class output directory.
+     *
+     * @param	sources	java.util.Map&lt;java.lang.String, java.lang.String&gt;
+     * @return	java.nio.file.Path
+     * @throws	java.io.IOException
+     */
+    public static Path compile(final Map<String, String> sources) throws IOException {
+        final var outputDirectory = Files.createTempDirectory("source-compiler");
+        final var compiler = ToolProvider.getSystemJavaCompiler();
+        final var diagnostics = new DiagnosticCollector<JavaFileObject>();
+        final var compilationUnits = sources.entrySet().stream()
+                .map(entry -> new SourceFile(entry.getKey(), entry.getValue()))
+                .toList();
+        final var options = List.of(
+                "-Xlint:all",
+                "-Xlint:-processing",
+                "-Werror",
+                "-d", outputDirectory.toString(),
+                "-classpath", System.getProperty("java.class.path")
+        );
+        final var task = compiler.getTask(null, null, diagnostics, options, null, compilationUnits);
+
+        task.setProcessors(List.of(new AnnotationIndexProcessor()));
+
+        if (!task.call())
+            throw new AssertionError("Compilation failed: " + diagnostics.getDiagnostics());
+
+        return outputDirectory;
+    }
+
+    private static final class SourceFile extends SimpleJavaFileObject {
+        private final String source;
+
+        private SourceFile(final String className, final String source) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+            return this.source;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package net.jmp.demo.annotated.application.processors;
+
+/*
+ * (#)TestAnnotationIndexProcessor.java0.7.0   10/18/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.7.0
+ * @since     0.7.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.nio.file.Files;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+public class TestAnnotationIndexProcessor {
+    static final Map<String, String> SOURCES = Map.of(
+            "com.example.IndexedApplication",
+            """
+            package com.example;
+
+            import net.jmp.demo.annotated.application.annotations.Application;
+            import net.jmp.demo.annotated.application.annotations.ApplicationProperty;
+
+            @Application
+            public class IndexedApplication {
+                @ApplicationProperty(name = "app.name")
+                private String name;
+            }
+            """,
+            "com.example.IndexedManaged",
+            """
+            package com.example;
+
+            import net.jmp.demo.annotated.application.annotations.ManagedClass;
+            import net.jmp.demo.annotated.application.annotations.SystemProperty;
+
+            @ManagedClass
+            public class IndexedManaged {
+                @SystemProperty(name = "user.home")
+                String home;
+
+                public static class Nested {
+                    @SystemProperty(name = "user.dir")
+                    String directory;
+                }
+            }
+            """
+    );
+
+    @Test
+    public void testIndexFile() throws Throwable {
+        final var outputDirectory = SourceCompiler.compile(SOURCES);
+        final var lines = Files.readAllLines(outputDirectory.resolve(AnnotationIndexProcessor.INDEX_FILE_NAME));
+
+        assertTrue(lines.get(0).startsWith("#"));
+        assertEquals(
+                List.of(
+                        AnnotationIndexProcessor.APPLICATION + " com.example.IndexedApplication",
+                        AnnotationIndexProcessor.APPLICATION_PROPERTY + " com.example.IndexedApplication name app.name",
+                        AnnotationIndexProcessor.MANAGED_CLASS + " com.example.IndexedManaged",
+                        AnnotationIndexProcessor.SYSTEM_PROPERTY + " com.example.IndexedManaged home",
+                        AnnotationIndexProcessor.SYSTEM_PROPERTY + " com.example.IndexedManaged$Nested directory"
+                ),
+                lines.subList(1, lines.size())
+        );
+    }
+}